@@ -3,6 +3,7 @@ package com.cartagenacorp.lm_issues;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @ComponentScan(basePackages = {
 		"com.cartagenacorp.lm_issues",
@@ -10,6 +11,7 @@ import org.springframework.context.annotation.ComponentScan;
 })
 
 @SpringBootApplication
+@EnableScheduling
 public class LmIssuesApplication {
 
 	public static void main(String[] args) {
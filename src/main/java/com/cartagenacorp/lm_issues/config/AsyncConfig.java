@@ -0,0 +1,94 @@
+package com.cartagenacorp.lm_issues.config;
+
+import com.cartagenacorp.lm_issues.util.ContextPropagatingTaskDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${outbound.executor.core-size:8}")
+    private int coreSize;
+
+    @Value("${outbound.executor.max-size:32}")
+    private int maxSize;
+
+    @Value("${outbound.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${outbound.executor.virtual-concurrency-limit:256}")
+    private int virtualConcurrencyLimit;
+
+    @Value("${export.max-concurrent:4}")
+    private int exportMaxConcurrent;
+
+    @Value("${export.queue-capacity:10}")
+    private int exportQueueCapacity;
+
+    @Value("${import.jobs.workers:2}")
+    private int importWorkers;
+
+    /**
+     * Ejecuta las respuestas asíncronas de Spring MVC (exportaciones con StreamingResponseBody).
+     * Si todos los hilos están ocupados y la cola está llena la petición se rechaza con 503.
+     */
+    @Bean
+    public AsyncTaskExecutor streamingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("streaming-");
+        executor.setCorePoolSize(exportMaxConcurrent);
+        executor.setMaxPoolSize(exportMaxConcurrent);
+        executor.setQueueCapacity(exportQueueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Hilos de los trabajos de importación. Sin cola: ImportJobRunner solo toma trabajos si hay hilos libres,
+     * el resto espera en la tabla import_job.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor importJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("import-job-");
+        executor.setCorePoolSize(importWorkers);
+        executor.setMaxPoolSize(importWorkers);
+        executor.setQueueCapacity(0);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    @Bean
+    public TaskExecutor remoteCallExecutor() {
+        if (virtualThreadsEnabled) {
+            // Un hilo virtual por llamada; el límite por servicio lo sigue aplicando el bulkhead de cada RestTemplate
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("remote-call-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+            executor.setTaskTerminationTimeout(10_000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("remote-call-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        // Sin CallerRunsPolicy: con el pool saturado la tarea se rechaza en lugar de ejecutarse fuera del plazo
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
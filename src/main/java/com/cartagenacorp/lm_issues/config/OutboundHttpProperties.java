@@ -0,0 +1,51 @@
+package com.cartagenacorp.lm_issues.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuración de los clientes HTTP salientes. Cada servicio externo (project, auth, sprint,
+ * audit, notification) puede sobreescribir los valores de defaults en targets.
+ */
+@Data
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpProperties {
+
+    private boolean http2Enabled = false;
+    private Target defaults = Target.withDefaults();
+    private Map<String, Target> targets = new HashMap<>();
+
+    public Target resolve(String name) {
+        Target target = targets.getOrDefault(name, new Target());
+        Target resolved = new Target();
+        resolved.setConnectTimeout(target.getConnectTimeout() != null ? target.getConnectTimeout() : defaults.getConnectTimeout());
+        resolved.setReadTimeout(target.getReadTimeout() != null ? target.getReadTimeout() : defaults.getReadTimeout());
+        resolved.setMaxConnections(target.getMaxConnections() != null ? target.getMaxConnections() : defaults.getMaxConnections());
+        resolved.setMaxConcurrent(target.getMaxConcurrent() != null ? target.getMaxConcurrent() : defaults.getMaxConcurrent());
+        resolved.setAcquireTimeout(target.getAcquireTimeout() != null ? target.getAcquireTimeout() : defaults.getAcquireTimeout());
+        return resolved;
+    }
+
+    @Data
+    public static class Target {
+        private Duration connectTimeout;
+        private Duration readTimeout;
+        private Integer maxConnections;
+        private Integer maxConcurrent;
+        private Duration acquireTimeout;
+
+        static Target withDefaults() {
+            Target target = new Target();
+            target.setConnectTimeout(Duration.ofSeconds(2));
+            target.setReadTimeout(Duration.ofSeconds(5));
+            target.setMaxConnections(20);
+            target.setMaxConcurrent(20);
+            target.setAcquireTimeout(Duration.ofSeconds(1));
+            return target;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.cartagenacorp.lm_issues.config;
+
+import com.cartagenacorp.lm_issues.util.RemoteCallCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Agrega el header X-Remote-Calls con la cantidad de llamadas a servicios externos que hizo la
+ * petición. Solo para depuración, se activa con app.debug.remote-calls-header.
+ */
+@ControllerAdvice
+public class RemoteCallHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Remote-Calls";
+
+    @Value("${app.debug.remote-calls-header:false}")
+    private boolean enabled;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            response.getHeaders().set(HEADER, String.valueOf(RemoteCallCounter.get(servletRequest.getServletRequest())));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,46 @@
+package com.cartagenacorp.lm_issues.config;
+
+import com.cartagenacorp.lm_issues.util.RemoteCallCounter;
+import com.cartagenacorp.lm_issues.util.RequestMemo;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Registra en issues.request.remote_calls cuántas llamadas a servicios externos hizo cada petición.
+ * Va primero en la cadena para crear el contador y el memo de la petición antes de que cualquier
+ * filtro (incluida la autenticación) haga llamadas remotas.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RemoteCallMetricsFilter extends OncePerRequestFilter {
+
+    private final DistributionSummary remoteCalls;
+
+    public RemoteCallMetricsFilter(MeterRegistry meterRegistry) {
+        this.remoteCalls = DistributionSummary.builder("issues.request.remote_calls")
+                .description("Llamadas a servicios externos por petición")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RemoteCallCounter.init(request);
+        RequestMemo.init(request);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            remoteCalls.record(RemoteCallCounter.get(request));
+        }
+    }
+}
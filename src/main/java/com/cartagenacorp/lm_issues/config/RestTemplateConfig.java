@@ -1,15 +1,113 @@
 package com.cartagenacorp.lm_issues.config;
 
+import com.cartagenacorp.lm_issues.util.CircuitBreakerInterceptor;
+import com.cartagenacorp.lm_issues.util.OutboundTargetInterceptor;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+
+/**
+ * Un RestTemplate por servicio externo, cada uno con su propio pool de conexiones, timeouts y
+ * límite de concurrencia, para que un servicio lento no consuma los hilos de los demás.
+ */
 @Configuration
+@EnableConfigurationProperties(OutboundHttpProperties.class)
 public class RestTemplateConfig {
 
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final OutboundHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    public RestTemplateConfig(RestTemplateBuilder restTemplateBuilder, OutboundHttpProperties properties, MeterRegistry meterRegistry,
+                              CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate projectRestTemplate() {
+        return build("project");
+    }
+
+    @Bean
+    public RestTemplate userRestTemplate() {
+        return build("auth");
+    }
+
+    @Bean
+    public RestTemplate sprintRestTemplate() {
+        return build("sprint");
     }
-}
 
+    @Bean
+    public RestTemplate auditRestTemplate() {
+        return build("audit");
+    }
+
+    @Bean
+    public RestTemplate notificationRestTemplate() {
+        return build("notification");
+    }
+
+    private RestTemplate build(String name) {
+        OutboundHttpProperties.Target target = properties.resolve(name);
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory(target))
+                .additionalInterceptors(
+                        new CircuitBreakerInterceptor(circuitBreakerRegistry.circuitBreaker(name)),
+                        new OutboundTargetInterceptor(name, target.getMaxConcurrent(), target.getAcquireTimeout(), meterRegistry))
+                .build();
+    }
+
+    private ClientHttpRequestFactory requestFactory(OutboundHttpProperties.Target target) {
+        if (properties.isHttp2Enabled()) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(target.getConnectTimeout())
+                    .build();
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+            factory.setReadTimeout(target.getReadTimeout());
+            return factory;
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(target.getMaxConnections())
+                .setMaxConnPerRoute(target.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(target.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(target.getReadTimeout()))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(target.getAcquireTimeout()))
+                        .setResponseTimeout(Timeout.of(target.getReadTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+}
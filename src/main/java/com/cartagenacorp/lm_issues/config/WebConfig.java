@@ -1,11 +1,16 @@
 package com.cartagenacorp.lm_issues.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -18,6 +23,21 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${file.upload-dir}")
     private String uploadDir;
 
+    @Value("${export.timeout:PT30M}")
+    private Duration exportTimeout;
+
+    private final AsyncTaskExecutor streamingExecutor;
+
+    public WebConfig(@Qualifier("streamingExecutor") AsyncTaskExecutor streamingExecutor) {
+        this.streamingExecutor = streamingExecutor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+        configurer.setDefaultTimeout(exportTimeout.toMillis());
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         String resourcePath = "file:///" + uploadDir.replace("\\", "/") + "/";
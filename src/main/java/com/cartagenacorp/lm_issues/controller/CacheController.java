@@ -0,0 +1,37 @@
+package com.cartagenacorp.lm_issues.controller;
+
+import com.cartagenacorp.lm_issues.dto.NotificationResponse;
+import com.cartagenacorp.lm_issues.service.ProjectParticipationCache;
+import com.cartagenacorp.lm_issues.util.ConstantUtil;
+import com.cartagenacorp.lm_issues.util.RequiresPermission;
+import com.cartagenacorp.lm_issues.util.ResponseUtil;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/issues/cache")
+public class CacheController {
+
+    private final ProjectParticipationCache projectParticipationCache;
+
+    public CacheController(ProjectParticipationCache projectParticipationCache) {
+        this.projectParticipationCache = projectParticipationCache;
+    }
+
+    @DeleteMapping("/participants/{projectId}")  //se usa desde lm-projects cuando cambian los participantes (uso interno)
+    @RequiresPermission({"PROJECT_UPDATE"})
+    public ResponseEntity<NotificationResponse> invalidateParticipants(@PathVariable UUID projectId,
+                                                                       @RequestParam(required = false) UUID userId) {
+        if (userId != null) {
+            projectParticipationCache.invalidate(userId, projectId);
+        } else {
+            projectParticipationCache.invalidateProject(projectId);
+        }
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ResponseUtil.success(ConstantUtil.Success.PARTICIPANTS_CACHE_INVALIDATED));
+    }
+}
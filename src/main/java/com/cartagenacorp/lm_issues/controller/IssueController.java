@@ -1,6 +1,9 @@
 package com.cartagenacorp.lm_issues.controller;
 
 import com.cartagenacorp.lm_issues.dto.*;
+import com.cartagenacorp.lm_issues.service.ImportJobService;
+import com.cartagenacorp.lm_issues.service.IssueExportService;
+import com.cartagenacorp.lm_issues.service.IssueImportService;
 import com.cartagenacorp.lm_issues.service.IssueService;
 import com.cartagenacorp.lm_issues.util.ConstantUtil;
 import com.cartagenacorp.lm_issues.util.RequiresPermission;
@@ -10,12 +13,17 @@ import jakarta.validation.constraints.NotBlank;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -25,9 +33,16 @@ import java.util.UUID;
 @RequestMapping("/api/issues")
 public class IssueController {
     private final IssueService issueService;
+    private final IssueExportService issueExportService;
+    private final IssueImportService issueImportService;
+    private final ImportJobService importJobService;
 
-    public IssueController(IssueService issueService) {
+    public IssueController(IssueService issueService, IssueExportService issueExportService, IssueImportService issueImportService,
+                           ImportJobService importJobService) {
         this.issueService = issueService;
+        this.issueExportService = issueExportService;
+        this.issueImportService = issueImportService;
+        this.importJobService = importJobService;
     }
 
     @PostMapping("/{issueId}/description/{descriptionId}/files")
@@ -63,6 +78,9 @@ public class IssueController {
             @RequestParam(required = false) String type,
             @RequestParam(required = false) List<String> assignedIds,
             @RequestParam(required = false) Boolean isParent,
+            @RequestParam(required = false, defaultValue = "LIKE") String searchMode,
+            @RequestParam(required = false, defaultValue = "false") boolean highlight,
+            @RequestParam(required = false, defaultValue = "EXACT") String countMode,
             @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String direction,
             @RequestParam(defaultValue = "0") int page,
@@ -76,17 +94,115 @@ public class IssueController {
         Long statusParsed = parseLongParam(status);
         Long priorityParsed = parseLongParam(priority);
         Long typeParsed = parseLongParam(type);
+        SearchMode searchModeParsed = SearchMode.valueOf(searchMode.toUpperCase());
+        CountMode countModeParsed = CountMode.valueOf(countMode.toUpperCase());
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
         Sort sort = Sort.by(sortDirection, sortBy).and(Sort.by(sortDirection, "id"));
         Pageable pageable = PageRequest.of(page, size, sort);
 
         PageResponseDTO<IssueDtoResponse> results = issueService.findIssues(
-                keyword, projectIdUuid, sprintIdUuid, statusParsed, priorityParsed, typeParsed, assignedIdUuids, isParent, pageable);
+                keyword, projectIdUuid, sprintIdUuid, statusParsed, priorityParsed, typeParsed, assignedIdUuids, isParent,
+                searchModeParsed, highlight, countModeParsed, pageable);
 
         return ResponseEntity.ok(results);
     }
 
+    @GetMapping("/search/cursor")
+    @RequiresPermission({"ISSUE_READ"})
+    public ResponseEntity<CursorPageResponseDTO<IssueDtoResponse>> searchIssuesByCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam @NotBlank String projectId,
+            @RequestParam(required = false) String sprintId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) List<String> assignedIds,
+            @RequestParam(required = false) Boolean isParent,
+            @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false, defaultValue = "desc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        List<UUID> assignedIdUuids = assignedIds != null
+                ? assignedIds.stream().map(UUID::fromString).toList()
+                : Collections.emptyList();
+        Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        CursorPageResponseDTO<IssueDtoResponse> results = issueService.findIssuesByCursor(
+                keyword, parseUUIDParam(projectId), parseUUIDParam(sprintId), parseLongParam(status), parseLongParam(priority),
+                parseLongParam(type), assignedIdUuids, isParent, sortBy, sortDirection, size, cursor);
+
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/board")
+    @RequiresPermission({"ISSUE_READ"})
+    public ResponseEntity<BoardDTO> getBoard(
+            @RequestParam @NotBlank String projectId,
+            @RequestParam(required = false) String sprintId,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) List<String> assignedIds,
+            @RequestParam(required = false) Boolean isParent,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        List<UUID> assignedIdUuids = assignedIds != null
+                ? assignedIds.stream().map(UUID::fromString).toList()
+                : Collections.emptyList();
+
+        BoardDTO board = issueService.getBoard(parseUUIDParam(projectId), parseUUIDParam(sprintId), parseLongParam(priority),
+                parseLongParam(type), assignedIdUuids, isParent, limit);
+
+        return ResponseEntity.ok(board);
+    }
+
+    @GetMapping("/facets")
+    @RequiresPermission({"ISSUE_READ"})
+    public ResponseEntity<IssueFacetsDTO> getIssueFacets(
+            @RequestParam(required = false) String keyword,
+            @RequestParam @NotBlank String projectId,
+            @RequestParam(required = false) String sprintId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) List<String> assignedIds,
+            @RequestParam(required = false) Boolean isParent,
+            @RequestParam(required = false, defaultValue = "LIKE") String searchMode) {
+
+        List<UUID> assignedIdUuids = assignedIds != null
+                ? assignedIds.stream().map(UUID::fromString).toList()
+                : Collections.emptyList();
+
+        IssueFacetsDTO facets = issueService.findIssueFacets(
+                keyword, parseUUIDParam(projectId), parseUUIDParam(sprintId), parseLongParam(status), parseLongParam(priority),
+                parseLongParam(type), assignedIdUuids, isParent, SearchMode.valueOf(searchMode.toUpperCase()));
+
+        return ResponseEntity.ok(facets);
+    }
+
+    @GetMapping("/export")
+    @RequiresPermission({"ISSUE_READ"})
+    public ResponseEntity<StreamingResponseBody> exportIssues(
+            @RequestParam @NotBlank String projectId,
+            @RequestParam(required = false, defaultValue = "NDJSON") String format) {
+
+        UUID projectIdUuid = parseUUIDParam(projectId);
+        ExportFormat exportFormat = ExportFormat.valueOf(format.toUpperCase());
+        issueExportService.validateAccess(projectIdUuid);
+
+        String extension = exportFormat == ExportFormat.CSV ? "csv" : "ndjson";
+        MediaType mediaType = exportFormat == ExportFormat.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        StreamingResponseBody body = out -> issueExportService.export(projectIdUuid, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"issues-" + projectIdUuid + "." + extension + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @RequiresPermission({"ISSUE_READ"})
     public ResponseEntity<IssueDtoResponse> getIssueById(@PathVariable String id) {
@@ -160,6 +276,48 @@ public class IssueController {
                 .body(result);
     }
 
+    @PostMapping("/import")  //importaciones grandes desde lm-integrations: confirma por bloques y reporta el resultado de cada uno
+    @RequiresPermission({"ISSUE_CREATE" , "IMPORT_PROJECT"})
+    public ResponseEntity<ImportResultDTO> importIssues(@RequestBody List<IssueDTO> issues) {
+        ImportResultDTO result = issueImportService.importIssues(issues);
+        return ResponseEntity
+                .status(result.getInserted() > 0 ? HttpStatus.CREATED : HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(result);
+    }
+
+    @PostMapping(value = "/import/jobs", consumes = MediaType.APPLICATION_JSON_VALUE)  //importación asíncrona: devuelve el trabajo y se consulta su progreso
+    @RequiresPermission({"ISSUE_CREATE" , "IMPORT_PROJECT"})
+    public ResponseEntity<ImportJobDTO> submitImportJob(@RequestBody List<IssueDTO> issues) {
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(importJobService.submit(issues));
+    }
+
+    @PostMapping(value = "/import/jobs", consumes = "application/x-ndjson")
+    @RequiresPermission({"ISSUE_CREATE" , "IMPORT_PROJECT"})
+    public ResponseEntity<ImportJobDTO> submitImportJobNdjson(InputStream body) {
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(importJobService.submitNdjson(body));
+    }
+
+    @GetMapping("/import/jobs/{jobId}")
+    @RequiresPermission({"ISSUE_CREATE" , "IMPORT_PROJECT"})
+    public ResponseEntity<ImportJobDTO> getImportJob(@PathVariable UUID jobId,
+                                                     @RequestParam(defaultValue = "false") boolean includeIds) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(importJobService.getJob(jobId, includeIds));
+    }
+
+    @PatchMapping("/batch")  //cambios de estado, prioridad o tipo sobre varias issues (triage)
+    @RequiresPermission({"ISSUE_UPDATE"})
+    public ResponseEntity<BulkUpdateResultDTO> bulkUpdateIssues(@RequestBody BulkUpdateRequest request) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(issueService.bulkUpdateIssues(request));
+    }
+
     @PostMapping("/assign")
     @RequiresPermission({"ISSUE_UPDATE"})
     public ResponseEntity<NotificationResponse> assignIssuesToSprint(@RequestBody AssignRequest request) {
@@ -0,0 +1,17 @@
+package com.cartagenacorp.lm_issues.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardColumnDTO {
+    private Long status;
+    private long total;
+    private List<IssueDtoResponse> issues = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package com.cartagenacorp.lm_issues.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Tablero de un proyecto: una columna por cada estado que tiene issues con los filtros dados.
+ * Los estados sin issues no aparecen, ya que el catálogo de estados vive en otro servicio.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardDTO {
+    private int limit;
+    private List<BoardColumnDTO> columns;
+}
@@ -0,0 +1,21 @@
+package com.cartagenacorp.lm_issues.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Campos a aplicar a todas las issues de issueIds; los campos nulos no se modifican.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkUpdateRequest {
+    private List<UUID> issueIds;
+    private Long status;
+    private Long priority;
+    private Long type;
+}
@@ -0,0 +1,20 @@
+package com.cartagenacorp.lm_issues.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkUpdateResultDTO {
+    private int requested;
+    private int updated;
+    /**
+     * Issues que cambiaron; las que ya tenían esos valores no se modifican ni se auditan.
+     */
+    private List<UUID> updatedIds;
+}
@@ -0,0 +1,13 @@
+package com.cartagenacorp.lm_issues.dto;
+
+/**
+ * Cómo calcula /api/issues/search el total de resultados.
+ * EXACT: conteo exacto en cada consulta (comportamiento original).
+ * NONE: sin conteo, solo indica si hay una página siguiente.
+ * ESTIMATED: conteo guardado en caché por combinación de filtros durante search.count-cache.ttl.
+ */
+public enum CountMode {
+    EXACT,
+    NONE,
+    ESTIMATED
+}
@@ -0,0 +1,11 @@
+package com.cartagenacorp.lm_issues.dto;
+
+/**
+ * Formato de /api/issues/export.
+ * NDJSON: un objeto JSON por línea, con las descripciones y adjuntos anidados.
+ * CSV: una fila por issue; la columna descriptions contiene el mismo arreglo JSON.
+ */
+public enum ExportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,17 @@
+package com.cartagenacorp.lm_issues.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cantidad de issues con un valor del filtro. value es null para las issues sin ese campo
+ * (por ejemplo, sin usuario asignado).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FacetCountDTO<T> {
+    private T value;
+    private long count;
+}
@@ -0,0 +1,21 @@
+package com.cartagenacorp.lm_issues.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de un bloque de la importación. Cada bloque se confirma o se revierte completo;
+ * from y to son las posiciones (desde 0, to exclusivo) de sus issues en la lista recibida.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportChunkResultDTO {
+    private int chunk;
+    private int from;
+    private int to;
+    private boolean success;
+    private int inserted;
+    private String error;
+}
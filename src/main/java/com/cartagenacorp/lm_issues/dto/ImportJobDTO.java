@@ -0,0 +1,33 @@
+package com.cartagenacorp.lm_issues.dto;
+
+import com.cartagenacorp.lm_issues.entity.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportJobDTO {
+    private UUID id;
+    private ImportJobStatus status;
+    private int total;
+    private int processed;
+    private int inserted;
+    private int failed;
+    private int completedChunks;
+    private int totalChunks;
+    private List<ImportChunkResultDTO> errors;
+    private String lastError;
+    /**
+     * IDs de las issues creadas hasta el momento, en el orden del payload. Solo se incluyen si se piden.
+     */
+    private List<UUID> ids;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
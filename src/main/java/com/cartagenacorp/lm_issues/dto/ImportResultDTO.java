@@ -0,0 +1,24 @@
+package com.cartagenacorp.lm_issues.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportResultDTO {
+    private int total;
+    private int inserted;
+    private int failed;
+    private long durationMs;
+    private double issuesPerSecond;
+    private List<ImportChunkResultDTO> chunks;
+    /**
+     * IDs asignados a las issues, en el mismo orden de la lista recibida (null si su bloque falló).
+     */
+    private List<UUID> ids;
+}
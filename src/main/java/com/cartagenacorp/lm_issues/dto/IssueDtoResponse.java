@@ -1,6 +1,7 @@
 package com.cartagenacorp.lm_issues.dto;
 
 import com.cartagenacorp.lm_issues.entity.Issue;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -37,4 +38,6 @@ public class IssueDtoResponse implements Serializable {
     UserBasicDataDto assignedId;
     UUID organizationId;
     ParentInfoDto parent;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String snippet;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.cartagenacorp.lm_issues.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IssueFacetsDTO {
+    private long total;
+    private List<FacetCountDTO<Long>> status = new ArrayList<>();
+    private List<FacetCountDTO<Long>> priority = new ArrayList<>();
+    private List<FacetCountDTO<Long>> type = new ArrayList<>();
+    private List<FacetCountDTO<UUID>> assignedId = new ArrayList<>();
+}
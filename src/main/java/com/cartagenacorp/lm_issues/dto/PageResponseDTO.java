@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -16,6 +17,8 @@ public class PageResponseDTO<T> {
     private long totalElements;
     private int size;
     private int number;
+    private boolean hasNext;
+    private boolean estimated;
 
     public PageResponseDTO(Page<T> page) {
         this.content = page.getContent();
@@ -23,5 +26,25 @@ public class PageResponseDTO<T> {
         this.totalElements = page.getTotalElements();
         this.size = page.getSize();
         this.number = page.getNumber();
+        this.hasNext = page.hasNext();
+    }
+
+    /**
+     * Página sin conteo obligatorio: con totalElements negativo el total es desconocido y
+     * totalPages/totalElements se envían como -1.
+     */
+    public PageResponseDTO(Slice<T> slice, long totalElements, boolean estimated) {
+        this.content = slice.getContent();
+        this.size = slice.getSize();
+        this.number = slice.getNumber();
+        this.hasNext = slice.hasNext();
+        this.estimated = estimated;
+        if (totalElements < 0) {
+            this.totalElements = -1;
+            this.totalPages = -1;
+        } else {
+            this.totalElements = totalElements;
+            this.totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) totalElements / slice.getSize());
+        }
     }
 }
@@ -0,0 +1,15 @@
+package com.cartagenacorp.lm_issues.dto;
+
+/**
+ * Estrategia de búsqueda por palabra clave en /api/issues/search.
+ * LIKE: coincidencia parcial sobre título y descripciones (comportamiento original).
+ * FULLTEXT: búsqueda de texto completo sobre issue.search_vector, ordenada por relevancia.
+ * TRIGRAM: misma coincidencia parcial que LIKE, resuelta con los índices pg_trgm.
+ * FUZZY: coincidencia aproximada (tolerante a errores de tipeo), ordenada por similitud.
+ */
+public enum SearchMode {
+    LIKE,
+    FULLTEXT,
+    TRIGRAM,
+    FUZZY
+}
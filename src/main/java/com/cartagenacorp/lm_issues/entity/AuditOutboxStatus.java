@@ -0,0 +1,7 @@
+package com.cartagenacorp.lm_issues.entity;
+
+public enum AuditOutboxStatus {
+    PENDING,
+    IN_FLIGHT,
+    DEAD
+}
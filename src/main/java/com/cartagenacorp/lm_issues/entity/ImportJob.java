@@ -0,0 +1,78 @@
+package com.cartagenacorp.lm_issues.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Importación asíncrona. Las issues ya preparadas (con IDs asignados) se guardan aparte en
+ * {@link ImportJobPayload}, así consultar el progreso no las carga. next_chunk es el primer bloque sin confirmar, que se actualiza en la misma transacción que inserta
+ * cada bloque. Un trabajo interrumpido continúa desde ese bloque cuando vence lease_until.
+ * lease_token identifica la toma vigente: solo quien la tiene puede actualizar el progreso.
+ */
+@Entity
+@Table(name = "import_job", indexes = @Index(name = "idx_import_job_due", columnList = "status, lease_until"))
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportJob {
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ImportJobStatus status = ImportJobStatus.PENDING;
+
+    @Column(name = "total_items", nullable = false)
+    private int totalItems;
+
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+
+    @Column(name = "next_chunk", nullable = false)
+    private int nextChunk;
+
+    @Column(name = "inserted", nullable = false)
+    private int inserted;
+
+    @Column(name = "failed", nullable = false)
+    private int failed;
+
+    @Column(name = "errors", columnDefinition = "text")
+    private String errors;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "lease_token")
+    private UUID leaseToken;
+
+    @Column(name = "created_by")
+    private UUID createdBy;
+
+    @Column(name = "organization_id")
+    private UUID organizationId;
+
+    @Column(name = "created_at", nullable = false)
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public int getTotalChunks() {
+        return chunkSize > 0 ? (totalItems + chunkSize - 1) / chunkSize : 0;
+    }
+}
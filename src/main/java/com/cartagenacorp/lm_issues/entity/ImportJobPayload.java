@@ -0,0 +1,22 @@
+package com.cartagenacorp.lm_issues.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "import_job_payload")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportJobPayload {
+    @Id
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    private String payload;
+}
@@ -0,0 +1,8 @@
+package com.cartagenacorp.lm_issues.entity;
+
+public enum ImportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
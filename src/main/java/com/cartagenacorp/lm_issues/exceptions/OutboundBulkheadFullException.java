@@ -0,0 +1,14 @@
+package com.cartagenacorp.lm_issues.exceptions;
+
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * El bulkhead local no dio permiso para llamar al servicio externo. Es un ResourceAccessException para
+ * que los servicios la traten como cualquier servicio no disponible, pero los circuit breakers la ignoran:
+ * la saturación propia no dice nada de la salud del servicio remoto.
+ */
+public class OutboundBulkheadFullException extends ResourceAccessException {
+    public OutboundBulkheadFullException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,5 @@
 package com.cartagenacorp.lm_issues.mapper;
 
-import com.cartagenacorp.lm_issues.dto.IssueDTO;
 import com.cartagenacorp.lm_issues.entity.Issue;
 import com.cartagenacorp.lm_issues.dto.IssueDtoRequest;
 import com.cartagenacorp.lm_issues.dto.IssueDtoResponse;
@@ -23,11 +22,4 @@ public interface IssueMapper {
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     Issue partialUpdate(IssueDtoRequest issueDtoRequest, @MappingTarget Issue issue);
-
-
-    @Mapping(target = "descriptions", source = "descriptionsDTO")
-    Issue toEntityImport(IssueDTO issueDTO);
-
-    @Mapping(target = "descriptionsDTO", source = "descriptions")
-    IssueDTO toDtoImport(Issue issue);
 }
@@ -0,0 +1,41 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import com.cartagenacorp.lm_issues.entity.AuditOutbox;
+import com.cartagenacorp.lm_issues.entity.AuditOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface AuditOutboxRepository extends JpaRepository<AuditOutbox, UUID> {
+
+    /**
+     * Registros pendientes y registros IN_FLIGHT cuyo lease venció (el dispatcher que los tomó se detuvo).
+     * En IN_FLIGHT next_attempt_at es el vencimiento del lease.
+     */
+    @Query(value = "SELECT * FROM audit_outbox WHERE status IN ('PENDING', 'IN_FLIGHT') AND next_attempt_at <= :now " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<AuditOutbox> findDueForDispatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Las operaciones sobre registros tomados exigen el mismo lease con el que se tomaron: si el lease
+     * venció y otro dispatcher los volvió a tomar, el resultado de este se descarta.
+     */
+    @Modifying
+    @Query("DELETE FROM AuditOutbox o WHERE o.id IN :ids " +
+            "AND o.status = com.cartagenacorp.lm_issues.entity.AuditOutboxStatus.IN_FLIGHT AND o.nextAttemptAt = :leaseUntil")
+    int deleteSent(@Param("ids") Collection<UUID> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE AuditOutbox o SET o.status = :status, o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt, " +
+            "o.lastError = :lastError WHERE o.id = :id " +
+            "AND o.status = com.cartagenacorp.lm_issues.entity.AuditOutboxStatus.IN_FLIGHT AND o.nextAttemptAt = :leaseUntil")
+    int updateOutcome(@Param("id") UUID id, @Param("leaseUntil") LocalDateTime leaseUntil,
+                      @Param("status") AuditOutboxStatus status, @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+}
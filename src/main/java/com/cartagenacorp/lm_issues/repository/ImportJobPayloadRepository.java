@@ -0,0 +1,17 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import com.cartagenacorp.lm_issues.entity.ImportJobPayload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface ImportJobPayloadRepository extends JpaRepository<ImportJobPayload, UUID> {
+
+    @Modifying
+    @Query("DELETE FROM ImportJobPayload p WHERE p.jobId IN :jobIds")
+    int deleteByJobIds(@Param("jobIds") Collection<UUID> jobIds);
+}
@@ -0,0 +1,60 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import com.cartagenacorp.lm_issues.entity.ImportJob;
+import com.cartagenacorp.lm_issues.entity.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, UUID> {
+
+    /**
+     * Trabajos pendientes y trabajos en curso cuyo lease venció (la instancia que los procesaba se detuvo).
+     */
+    @Query(value = "SELECT * FROM import_job WHERE status IN ('PENDING', 'RUNNING') " +
+            "AND (lease_until IS NULL OR lease_until < :now) " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ImportJob> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Las actualizaciones de un trabajo tomado exigen el lease_token con el que se tomó: si el lease
+     * venció y otra instancia lo volvió a tomar, no se actualiza ninguna fila.
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.leaseUntil = :leaseUntil WHERE j.id = :id AND j.leaseToken = :token")
+    int renewLease(@Param("id") UUID id, @Param("token") UUID token, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.leaseUntil = NULL, j.leaseToken = NULL WHERE j.id = :id AND j.leaseToken = :token")
+    int releaseLease(@Param("id") UUID id, @Param("token") UUID token);
+
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.nextChunk = :nextChunk, j.inserted = j.inserted + :inserted, j.leaseUntil = :leaseUntil " +
+            "WHERE j.id = :id AND j.leaseToken = :token")
+    int advance(@Param("id") UUID id, @Param("token") UUID token, @Param("nextChunk") int nextChunk,
+                @Param("inserted") int inserted, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.nextChunk = :nextChunk, j.failed = j.failed + :failed, j.errors = :errors, " +
+            "j.leaseUntil = :leaseUntil WHERE j.id = :id AND j.leaseToken = :token")
+    int advanceFailed(@Param("id") UUID id, @Param("token") UUID token, @Param("nextChunk") int nextChunk,
+                      @Param("failed") int failed, @Param("errors") String errors, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = :status, j.leaseUntil = NULL, j.leaseToken = NULL, j.finishedAt = :finishedAt, " +
+            "j.lastError = :lastError WHERE j.id = :id AND j.leaseToken = :token")
+    int finish(@Param("id") UUID id, @Param("token") UUID token, @Param("status") ImportJobStatus status,
+               @Param("finishedAt") LocalDateTime finishedAt, @Param("lastError") String lastError);
+
+    @Query("SELECT j.id FROM ImportJob j WHERE j.finishedAt < :before")
+    List<UUID> findIdsFinishedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM ImportJob j WHERE j.id IN :ids")
+    int deleteByIds(@Param("ids") List<UUID> ids);
+}
@@ -0,0 +1,9 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import java.util.UUID;
+
+/**
+ * Una issue del tablero junto con el total de issues de su columna (estado).
+ */
+public record IssueBoardRow(UUID id, Long status, long columnTotal) {
+}
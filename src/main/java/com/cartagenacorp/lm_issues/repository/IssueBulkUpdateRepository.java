@@ -0,0 +1,143 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Actualizaciones masivas de issues con una sola sentencia UPDATE ... RETURNING, sin cargar las entidades.
+ */
+@Repository
+public class IssueBulkUpdateRepository {
+
+    /**
+     * El subselect bloquea las filas y conserva los valores anteriores de las columnas que se modifican;
+     * el resto de la fila no cambia mientras dure el bloqueo. Solo se tocan las filas en las que algún
+     * campo cambia; last_status_update solo avanza si cambia el estado.
+     */
+    private static final String UPDATE_FIELDS = """
+            UPDATE issue i SET
+                status = COALESCE(:status, old.status),
+                priority = COALESCE(:priority, old.priority),
+                type = COALESCE(:type, old.type),
+                last_status_update = CASE WHEN :status IS NOT NULL AND old.status IS DISTINCT FROM :status
+                                          THEN :now ELSE old.last_status_update END,
+                updated_at = :now
+            FROM (SELECT id, status, priority, type, last_status_update, updated_at FROM issue
+                  WHERE id IN (:ids) AND project_id IN (:projectIds) FOR UPDATE) old
+            WHERE i.id = old.id
+              AND (old.status IS DISTINCT FROM COALESCE(:status, old.status)
+                   OR old.priority IS DISTINCT FROM COALESCE(:priority, old.priority)
+                   OR old.type IS DISTINCT FROM COALESCE(:type, old.type))
+            RETURNING i.id, i.title, i.estimated_time, i.project_id, i.sprint_id, i.priority, i.status, i.type,
+                      i.created_at, i.updated_at, i.last_status_update, i.start_date, i.end_date, i.real_date,
+                      i.reporter_id, i.assigned_id, i.organization_id, i.parent_id,
+                      old.status AS old_status, old.priority AS old_priority, old.type AS old_type,
+                      old.last_status_update AS old_last_status_update, old.updated_at AS old_updated_at
+            """;
+
+    private static final Set<String> FIELD_COLUMNS = Set.of("status", "priority", "type", "last_status_update", "updated_at");
+
+    /**
+     * Como UPDATE_FIELDS, el subselect bloquea las filas y conserva el sprint anterior para la auditoría.
+     */
+    private static final String UPDATE_SPRINT = """
+            UPDATE issue i SET sprint_id = :sprintId, updated_at = :now
+            FROM (SELECT id, sprint_id, updated_at FROM issue
+                  WHERE id IN (:ids) AND project_id IN (:projectIds) FOR UPDATE) old
+            WHERE i.id = old.id
+            RETURNING i.id, i.title, i.estimated_time, i.project_id, i.sprint_id, i.priority, i.status, i.type,
+                      i.created_at, i.updated_at, i.last_status_update, i.start_date, i.end_date, i.real_date,
+                      i.reporter_id, i.assigned_id, i.organization_id, i.parent_id,
+                      old.sprint_id AS old_sprint_id, old.updated_at AS old_updated_at
+            """;
+
+    private static final Set<String> SPRINT_COLUMNS = Set.of("sprint_id", "updated_at");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public IssueBulkUpdateRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Proyecto de cada issue encontrada; las que no existen no aparecen en el mapa.
+     */
+    public Map<UUID, UUID> findProjectIds(Collection<UUID> ids) {
+        Map<UUID, UUID> projects = new HashMap<>();
+        jdbcTemplate.query("SELECT id, project_id FROM issue WHERE id IN (:ids)", Map.of("ids", ids),
+                rs -> {
+                    projects.put(rs.getObject("id", UUID.class), rs.getObject("project_id", UUID.class));
+                });
+        return projects;
+    }
+
+    public List<IssueFieldChange> updateFields(Collection<UUID> ids, Collection<UUID> projectIds,
+                                               Long status, Long priority, Long type) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("projectIds", projectIds)
+                .addValue("status", status, Types.BIGINT)
+                .addValue("priority", priority, Types.BIGINT)
+                .addValue("type", type, Types.BIGINT)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+        return jdbcTemplate.query(UPDATE_FIELDS, params, (rs, rowNum) -> new IssueFieldChange(
+                snapshot(rs, FIELD_COLUMNS), snapshot(rs, Set.of())));
+    }
+
+    /**
+     * Asigna (o quita, con sprintId null) el sprint de las issues indicadas que pertenezcan a projectIds.
+     */
+    public List<IssueSprintChange> updateSprint(Collection<UUID> ids, Collection<UUID> projectIds, UUID sprintId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("projectIds", projectIds)
+                .addValue("sprintId", sprintId, Types.OTHER)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+        return jdbcTemplate.query(UPDATE_SPRINT, params, (rs, rowNum) -> new IssueSprintChange(
+                snapshot(rs, SPRINT_COLUMNS), snapshot(rs, Set.of())));
+    }
+
+    /**
+     * Lee la fila devuelta por RETURNING; las columnas de previous se leen con el prefijo old_, que es
+     * como el UPDATE devuelve su valor anterior.
+     */
+    private static IssueSnapshot snapshot(ResultSet rs, Set<String> previous) throws SQLException {
+        return new IssueSnapshot(
+                rs.getObject("id", UUID.class),
+                rs.getString("title"),
+                rs.getObject("estimated_time", Integer.class),
+                rs.getObject("project_id", UUID.class),
+                rs.getObject(column("sprint_id", previous), UUID.class),
+                getLong(rs, column("priority", previous)),
+                getLong(rs, column("status", previous)),
+                getLong(rs, column("type", previous)),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject(column("updated_at", previous), LocalDateTime.class),
+                rs.getObject(column("last_status_update", previous), LocalDateTime.class),
+                rs.getObject("start_date", LocalDate.class),
+                rs.getObject("end_date", LocalDate.class),
+                rs.getObject("real_date", LocalDate.class),
+                rs.getObject("reporter_id", UUID.class),
+                rs.getObject("assigned_id", UUID.class),
+                rs.getObject("organization_id", UUID.class),
+                rs.getObject("parent_id", UUID.class));
+    }
+
+    private static String column(String name, Set<String> previous) {
+        return previous.contains(name) ? "old_" + name : name;
+    }
+
+    private static Long getLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+}
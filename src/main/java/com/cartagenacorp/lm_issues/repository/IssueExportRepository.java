@@ -0,0 +1,49 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * Lectura de todas las issues de un proyecto para exportación. Las filas se entregan una por una
+ * al handler; con una transacción activa el driver de PostgreSQL usa un cursor del lado del
+ * servidor y trae export.fetch-size filas por viaje, así la memoria no depende del tamaño del proyecto.
+ * Las descripciones y adjuntos de cada issue vienen agregados como un arreglo JSON.
+ */
+@Repository
+public class IssueExportRepository {
+
+    private static final String EXPORT_SQL = """
+            SELECT i.id, i.title, i.estimated_time, i.project_id, i.sprint_id, i.priority, i.status, i.type,
+                   i.created_at, i.updated_at, i.last_status_update, i.start_date, i.end_date, i.real_date,
+                   i.reporter_id, i.assigned_id, i.organization_id, i.parent_id,
+                   coalesce((SELECT json_agg(json_build_object(
+                                 'id', d.id, 'title', d.title, 'text', d.text,
+                                 'attachments', coalesce((SELECT json_agg(json_build_object(
+                                                              'id', f.id, 'fileName', f.file_name, 'fileUrl', f.file_url) ORDER BY f.id)
+                                                          FROM description_file f WHERE f.description_id = d.id), '[]'::json))
+                                 ORDER BY d.id)
+                             FROM description d WHERE d.issue_id = i.id), '[]'::json) AS descriptions
+            FROM issue i
+            WHERE i.project_id = ?
+            ORDER BY i.created_at, i.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IssueExportRepository(DataSource dataSource, @Value("${export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Debe llamarse dentro de una transacción para que el driver no cargue todo el resultado en memoria.
+     */
+    public void streamProject(UUID projectId, RowCallbackHandler handler) {
+        jdbcTemplate.query(EXPORT_SQL, handler, projectId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import java.util.UUID;
+
+/**
+ * Una issue modificada por una actualización masiva, con la fila anterior y la nueva.
+ */
+public record IssueFieldChange(IssueSnapshot before, IssueSnapshot after) {
+
+    public UUID id() {
+        return after.id();
+    }
+
+    public String title() {
+        return after.title();
+    }
+
+    public UUID projectId() {
+        return after.projectId();
+    }
+
+    public UUID assignedId() {
+        return after.assignedId();
+    }
+
+    public UUID parentId() {
+        return after.parentId();
+    }
+}
@@ -0,0 +1,78 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import com.cartagenacorp.lm_issues.dto.DescriptionDTO;
+import com.cartagenacorp.lm_issues.dto.IssueDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserciones por lotes JDBC para importaciones masivas. Los IDs deben venir asignados, así las
+ * descripciones se insertan en un segundo lote sin esperar los IDs generados de las issues.
+ */
+@Repository
+public class IssueImportRepository {
+
+    private static final String INSERT_ISSUE = """
+            INSERT INTO issue (id, title, estimated_time, project_id, sprint_id, priority, status, type,
+                               created_at, updated_at, last_status_update, reporter_id, assigned_id, organization_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_DESCRIPTION = "INSERT INTO description (id, title, text, issue_id) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IssueImportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserta las issues y luego todas sus descripciones, cada grupo en lotes de batchSize sentencias.
+     * Completa createdAt y updatedAt de los DTO con la fecha usada en la inserción.
+     */
+    public void insertAll(List<IssueDTO> issues, int batchSize) {
+        LocalDateTime insertedAt = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(insertedAt);
+        issues.forEach(issue -> {
+            issue.setCreatedAt(insertedAt);
+            issue.setUpdatedAt(insertedAt);
+        });
+        jdbcTemplate.batchUpdate(INSERT_ISSUE, issues, batchSize, (ps, issue) -> {
+            ps.setObject(1, issue.getId());
+            ps.setString(2, issue.getTitle());
+            ps.setObject(3, issue.getEstimatedTime(), Types.INTEGER);
+            ps.setObject(4, issue.getProjectId());
+            ps.setObject(5, issue.getSprintId());
+            ps.setObject(6, issue.getPriority(), Types.BIGINT);
+            ps.setObject(7, issue.getStatus(), Types.BIGINT);
+            ps.setObject(8, issue.getType(), Types.BIGINT);
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, issue.getStatus() != null ? now : null);
+            ps.setObject(12, issue.getReporterId());
+            ps.setObject(13, issue.getAssignedId());
+            ps.setObject(14, issue.getOrganizationId());
+        });
+
+        List<DescriptionDTO> descriptions = new ArrayList<>();
+        for (IssueDTO issue : issues) {
+            if (issue.getDescriptionsDTO() != null) {
+                descriptions.addAll(issue.getDescriptionsDTO());
+            }
+        }
+        if (!descriptions.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_DESCRIPTION, descriptions, batchSize, (ps, description) -> {
+                ps.setObject(1, description.getId());
+                ps.setString(2, description.getTitle());
+                ps.setString(3, description.getText());
+                ps.setObject(4, description.getIssueId());
+            });
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import com.cartagenacorp.lm_issues.dto.DescriptionDtoResponse;
+import com.cartagenacorp.lm_issues.dto.DescriptionFileDtoResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * Lectura para vistas de lista: una consulta con las columnas de las issues de la página y otra
+ * con sus descripciones y adjuntos, sin importar el tamaño de la página.
+ */
+@Repository
+public class IssueListReadRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Retorna las filas en el mismo orden que los IDs recibidos.
+     */
+    public List<IssueListRow> findRows(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<IssueListRow> rows = entityManager.createQuery("""
+                        SELECT new com.cartagenacorp.lm_issues.repository.IssueListRow(
+                            i.id, i.title, i.estimatedTime, i.projectId, i.sprintId, i.priority, i.status, i.type,
+                            i.createdAt, i.updatedAt, i.lastStatusUpdate, i.startDate, i.endDate, i.realDate,
+                            i.reporterId, i.assignedId, i.organizationId, p.id, p.title)
+                        FROM Issue i LEFT JOIN i.parent p
+                        WHERE i.id IN :ids
+                        """, IssueListRow.class)
+                .setParameter("ids", ids)
+                .getResultList();
+
+        Map<UUID, IssueListRow> byId = new HashMap<>();
+        rows.forEach(row -> byId.put(row.id(), row));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Descripciones con sus adjuntos agrupadas por issue, en una sola consulta.
+     */
+    public Map<UUID, List<DescriptionDtoResponse>> findDescriptions(Collection<UUID> issueIds) {
+        if (issueIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Tuple> tuples = entityManager.createQuery("""
+                        SELECT d.issue.id AS issueId, d.id AS descriptionId, d.title AS title, d.text AS text,
+                               f.id AS fileId, f.fileName AS fileName, f.fileUrl AS fileUrl
+                        FROM Description d LEFT JOIN d.attachments f
+                        WHERE d.issue.id IN :issueIds
+                        """, Tuple.class)
+                .setParameter("issueIds", issueIds)
+                .getResultList();
+
+        Map<UUID, Map<UUID, DescriptionRows>> grouped = new LinkedHashMap<>();
+        for (Tuple tuple : tuples) {
+            DescriptionRows description = grouped
+                    .computeIfAbsent(tuple.get("issueId", UUID.class), id -> new LinkedHashMap<>())
+                    .computeIfAbsent(tuple.get("descriptionId", UUID.class), id -> new DescriptionRows(
+                            id, tuple.get("title", String.class), tuple.get("text", String.class), new ArrayList<>()));
+            UUID fileId = tuple.get("fileId", UUID.class);
+            if (fileId != null) {
+                description.attachments().add(new DescriptionFileDtoResponse(
+                        fileId, tuple.get("fileName", String.class), tuple.get("fileUrl", String.class)));
+            }
+        }
+
+        Map<UUID, List<DescriptionDtoResponse>> result = new HashMap<>();
+        grouped.forEach((issueId, descriptions) -> result.put(issueId, descriptions.values().stream()
+                .map(rows -> new DescriptionDtoResponse(rows.id(), rows.title(), rows.text(), rows.attachments()))
+                .toList()));
+        return result;
+    }
+
+    private record DescriptionRows(UUID id, String title, String text, List<DescriptionFileDtoResponse> attachments) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Columnas de una issue que necesitan las vistas de lista, sin cargar la entidad completa.
+ */
+public record IssueListRow(UUID id, String title, Integer estimatedTime, UUID projectId, UUID sprintId,
+                           Long priority, Long status, Long type, LocalDateTime createdAt, LocalDateTime updatedAt,
+                           LocalDateTime lastStatusUpdate, LocalDate startDate, LocalDate endDate, LocalDate realDate,
+                           UUID reporterId, UUID assignedId, UUID organizationId, UUID parentId, String parentTitle) {
+}
@@ -11,7 +11,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface IssueRepository extends JpaRepository<Issue, UUID>, JpaSpecificationExecutor<Issue> {
+public interface IssueRepository extends JpaRepository<Issue, UUID>, JpaSpecificationExecutor<Issue>, IssueRepositoryCustom {
     Page<Issue> findByStatus(String status, Pageable pageable);
 
     Page<Issue> findByProjectId(UUID projectId, Pageable pageable);
@@ -0,0 +1,16 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import com.cartagenacorp.lm_issues.entity.Issue;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public interface IssueRepositoryCustom {
+
+    /**
+     * IDs de la página en el orden solicitado, para leer luego solo las columnas necesarias.
+     */
+    Slice<UUID> findIdSlice(Specification<Issue> spec, Pageable pageable);
+}
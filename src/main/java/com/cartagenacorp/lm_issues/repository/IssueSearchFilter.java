@@ -0,0 +1,12 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Filtros de /api/issues/search para las consultas SQL nativas. Respeta los mismos valores
+ * especiales que IssueSpecifications (UUID cero y -1 significan "sin valor").
+ */
+public record IssueSearchFilter(UUID projectId, UUID sprintId, Long status, Long priority, Long type,
+                                List<UUID> assignedIds, Boolean isParent) {
+}
@@ -0,0 +1,6 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import java.util.UUID;
+
+public record IssueSearchHit(UUID id, double rank, String snippet) {
+}
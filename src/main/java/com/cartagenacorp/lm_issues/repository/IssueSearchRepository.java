@@ -0,0 +1,336 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import com.cartagenacorp.lm_issues.dto.FacetCountDTO;
+import com.cartagenacorp.lm_issues.dto.IssueFacetsDTO;
+import com.cartagenacorp.lm_issues.dto.SearchMode;
+import com.cartagenacorp.lm_issues.repository.specifications.IssueSpecifications;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Consultas SQL nativas de búsqueda de issues que no se pueden expresar con Specifications.
+ */
+@Repository
+public class IssueSearchRepository {
+
+    static final String TS_CONFIG = "spanish";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.ofEntries(
+            Map.entry("id", "i.id"),
+            Map.entry("title", "i.title"),
+            Map.entry("createdAt", "i.created_at"),
+            Map.entry("updatedAt", "i.updated_at"),
+            Map.entry("lastStatusUpdate", "i.last_status_update"),
+            Map.entry("status", "i.status"),
+            Map.entry("priority", "i.priority"),
+            Map.entry("type", "i.type"),
+            Map.entry("estimatedTime", "i.estimated_time"),
+            Map.entry("startDate", "i.start_date"),
+            Map.entry("endDate", "i.end_date"),
+            Map.entry("realDate", "i.real_date")
+    );
+
+    /**
+     * Campos admitidos por la paginación por cursor: deben ser no nulos para que la comparación
+     * de filas (campo, id) recorra todos los resultados.
+     */
+    public static final Map<String, String> SEEK_COLUMNS = Map.of(
+            "createdAt", "i.created_at",
+            "updatedAt", "i.updated_at",
+            "title", "i.title",
+            "id", "i.id"
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${search.fuzzy-threshold:0.4}")
+    private double fuzzyThreshold;
+
+    public IssueSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Page<IssueSearchHit> search(SearchMode mode, String keyword, IssueSearchFilter filter, Pageable pageable, boolean highlight) {
+        NativeSearch search = build(mode, keyword, filter, pageable.getSort(), highlight);
+        search.params().addValue("limit", pageable.getPageSize()).addValue("offset", pageable.getOffset());
+        List<IssueSearchHit> hits = query(search);
+        Long total = jdbcTemplate.queryForObject(search.countSql(), search.params(), Long.class);
+        return new PageImpl<>(hits, pageable, total != null ? total : 0);
+    }
+
+    /**
+     * Igual que search pero sin la consulta de conteo: pide una fila extra para saber si hay
+     * una página siguiente.
+     */
+    public Slice<IssueSearchHit> searchSlice(SearchMode mode, String keyword, IssueSearchFilter filter, Pageable pageable, boolean highlight) {
+        NativeSearch search = build(mode, keyword, filter, pageable.getSort(), highlight);
+        search.params().addValue("limit", pageable.getPageSize() + 1).addValue("offset", pageable.getOffset());
+        List<IssueSearchHit> hits = query(search);
+        boolean hasNext = hits.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? hits.subList(0, pageable.getPageSize()) : hits, pageable, hasNext);
+    }
+
+    public long count(SearchMode mode, String keyword, IssueSearchFilter filter) {
+        NativeSearch search = build(mode, keyword, filter, Sort.unsorted(), false);
+        Long total = jdbcTemplate.queryForObject(search.countSql(), search.params(), Long.class);
+        return total != null ? total : 0;
+    }
+
+    private NativeSearch build(SearchMode mode, String keyword, IssueSearchFilter filter, Sort sort, boolean highlight) {
+        return switch (mode) {
+            case FULLTEXT -> fullText(keyword, filter, sort, highlight);
+            case TRIGRAM -> trigram(keyword, filter, sort);
+            case FUZZY -> fuzzy(keyword, filter, sort);
+            case LIKE -> throw new IllegalArgumentException("El modo LIKE se resuelve con IssueSpecifications");
+        };
+    }
+
+    /**
+     * Búsqueda de texto completo ordenada por relevancia (y luego por el orden solicitado).
+     * Con highlight se calcula el fragmento resaltado solo para las filas de la página.
+     */
+    private NativeSearch fullText(String keyword, IssueSearchFilter filter, Sort sort, boolean highlight) {
+        MapSqlParameterSource params = new MapSqlParameterSource("keyword", keyword);
+        String where = whereClause(filter, params);
+        String from = " FROM issue i, websearch_to_tsquery('" + TS_CONFIG + "', :keyword) q"
+                + " WHERE i.search_vector @@ q AND " + where;
+
+        String pageSql = "SELECT i.id, ts_rank_cd(i.search_vector, q) AS rank" + from
+                + " ORDER BY rank DESC, " + orderBy(sort)
+                + " LIMIT :limit OFFSET :offset";
+        String sql = highlight
+                ? "SELECT p.id, p.rank, ts_headline('" + TS_CONFIG + "', "
+                  + "i.title || coalesce(' ' || (SELECT string_agg(d.text, ' ') FROM description d WHERE d.issue_id = i.id), ''), "
+                  + "websearch_to_tsquery('" + TS_CONFIG + "', :keyword), "
+                  + "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=25, MinWords=8') AS snippet"
+                  + " FROM (" + pageSql + ") p JOIN issue i ON i.id = p.id ORDER BY p.rank DESC, " + orderBy(sort)
+                : "SELECT p.id, p.rank, NULL AS snippet FROM (" + pageSql + ") p";
+
+        return new NativeSearch(sql, from, params);
+    }
+
+    /**
+     * Misma semántica que el modo LIKE (subcadena sin distinguir mayúsculas en el título o en
+     * alguna descripción), escrita como unión de dos búsquedas que pueden usar los índices
+     * trigram sobre lower(title) y lower(text) en lugar de un JOIN con DISTINCT.
+     */
+    private NativeSearch trigram(String keyword, IssueSearchFilter filter, Sort sort) {
+        MapSqlParameterSource params = new MapSqlParameterSource("pattern", "%" + keyword.toLowerCase() + "%");
+        String where = whereClause(filter, params);
+        String from = " FROM issue i WHERE i.id IN ("
+                + "SELECT t.id FROM issue t WHERE lower(t.title) LIKE :pattern"
+                + " UNION SELECT d.issue_id FROM description d WHERE lower(d.text) LIKE :pattern"
+                + ") AND " + where;
+
+        String sql = "SELECT i.id, 0 AS rank, NULL AS snippet" + from
+                + " ORDER BY " + orderBy(sort)
+                + " LIMIT :limit OFFSET :offset";
+        return new NativeSearch(sql, from, params);
+    }
+
+    /**
+     * Búsqueda tolerante a errores de tipeo con word_similarity de pg_trgm. Una issue coincide si
+     * la palabra clave se parece a alguna parte del título o de una descripción (umbral
+     * search.fuzzy-threshold) y se ordena por la mayor similitud encontrada.
+     * Debe ejecutarse dentro de una transacción, ya que el umbral se fija con SET LOCAL.
+     */
+    private NativeSearch fuzzy(String keyword, IssueSearchFilter filter, Sort sort) {
+        jdbcTemplate.queryForObject("SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)",
+                new MapSqlParameterSource("threshold", String.valueOf(fuzzyThreshold)), String.class);
+
+        MapSqlParameterSource params = new MapSqlParameterSource("keyword", keyword.toLowerCase());
+        String where = whereClause(filter, params);
+        String from = " FROM (SELECT m.issue_id, max(m.score) AS rank FROM ("
+                + "SELECT t.id AS issue_id, word_similarity(:keyword, lower(t.title)) AS score FROM issue t WHERE :keyword <% lower(t.title)"
+                + " UNION ALL SELECT d.issue_id, word_similarity(:keyword, lower(d.text)) FROM description d WHERE :keyword <% lower(d.text)"
+                + ") m GROUP BY m.issue_id) r JOIN issue i ON i.id = r.issue_id WHERE " + where;
+
+        String sql = "SELECT i.id, r.rank, NULL AS snippet" + from
+                + " ORDER BY r.rank DESC, " + orderBy(sort)
+                + " LIMIT :limit OFFSET :offset";
+        return new NativeSearch(sql, from, params);
+    }
+
+    /**
+     * Conteos por estado, prioridad, tipo y asignado sobre el mismo conjunto de resultados que la
+     * búsqueda, en una sola consulta con GROUPING SETS. La palabra clave en modo LIKE se resuelve
+     * con la misma unión que TRIGRAM, que tiene la misma semántica.
+     */
+    public IssueFacetsDTO facets(SearchMode mode, String keyword, IssueSearchFilter filter) {
+        String from;
+        MapSqlParameterSource params;
+        if (keyword == null || keyword.isBlank()) {
+            params = new MapSqlParameterSource();
+            from = " FROM issue i WHERE " + whereClause(filter, params);
+        } else {
+            NativeSearch search = build(mode == SearchMode.LIKE ? SearchMode.TRIGRAM : mode, keyword.trim(), filter, Sort.unsorted(), false);
+            from = search.from();
+            params = search.params();
+        }
+
+        String sql = "SELECT i.status, i.priority, i.type, i.assigned_id,"
+                + " GROUPING(i.status) AS g_status, GROUPING(i.priority) AS g_priority,"
+                + " GROUPING(i.type) AS g_type, GROUPING(i.assigned_id) AS g_assigned, count(*) AS total"
+                + from
+                + " GROUP BY GROUPING SETS ((i.status), (i.priority), (i.type), (i.assigned_id), ())"
+                + " ORDER BY total DESC, i.status, i.priority, i.type, i.assigned_id";
+
+        IssueFacetsDTO facets = new IssueFacetsDTO();
+        jdbcTemplate.query(sql, params, rs -> {
+            long count = rs.getLong("total");
+            if (rs.getInt("g_status") == 0) {
+                facets.getStatus().add(new FacetCountDTO<>(rs.getObject("status", Long.class), count));
+            } else if (rs.getInt("g_priority") == 0) {
+                facets.getPriority().add(new FacetCountDTO<>(rs.getObject("priority", Long.class), count));
+            } else if (rs.getInt("g_type") == 0) {
+                facets.getType().add(new FacetCountDTO<>(rs.getObject("type", Long.class), count));
+            } else if (rs.getInt("g_assigned") == 0) {
+                facets.getAssignedId().add(new FacetCountDTO<>(rs.getObject("assigned_id", UUID.class), count));
+            } else {
+                facets.setTotal(count);
+            }
+        });
+        return facets;
+    }
+
+    /**
+     * Las primeras perColumn issues de cada estado (por prioridad y luego las más recientes) y el
+     * total de cada estado, en una sola consulta con funciones de ventana.
+     */
+    public List<IssueBoardRow> board(IssueSearchFilter filter, int perColumn) {
+        MapSqlParameterSource params = new MapSqlParameterSource("perColumn", perColumn);
+        String sql = "SELECT b.id, b.status, b.column_total FROM ("
+                + "SELECT i.id, i.status,"
+                + " row_number() OVER (PARTITION BY i.status ORDER BY i.priority DESC NULLS LAST, i.created_at DESC, i.id) AS rn,"
+                + " count(*) OVER (PARTITION BY i.status) AS column_total"
+                + " FROM issue i WHERE " + whereClause(filter, params)
+                + ") b WHERE b.rn <= :perColumn ORDER BY b.status NULLS LAST, b.rn";
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new IssueBoardRow(
+                rs.getObject("id", UUID.class), rs.getObject("status", Long.class), rs.getLong("column_total")));
+    }
+
+    private List<IssueSearchHit> query(NativeSearch search) {
+        return jdbcTemplate.query(search.sql(), search.params(), (rs, rowNum) -> new IssueSearchHit(
+                rs.getObject("id", UUID.class), rs.getDouble("rank"), rs.getString("snippet")));
+    }
+
+    /**
+     * Paginación por cursor: retorna hasta limit IDs ordenados por (campo, id) que están después
+     * de (afterValue, afterId), de modo que el costo de cada página no depende de su profundidad.
+     * La palabra clave se filtra con la semántica del modo LIKE.
+     */
+    public List<UUID> seek(String keyword, IssueSearchFilter filter, String sortBy, boolean ascending,
+                           Object afterValue, UUID afterId, int limit) {
+        String column = SEEK_COLUMNS.get(sortBy);
+        if (column == null) {
+            throw new IllegalArgumentException("Campo de ordenamiento no válido para cursor: " + sortBy);
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        StringBuilder sql = new StringBuilder("SELECT i.id FROM issue i WHERE ").append(whereClause(filter, params));
+
+        if (keyword != null && !keyword.isBlank()) {
+            params.addValue("pattern", "%" + keyword.trim().toLowerCase() + "%");
+            sql.append(" AND i.id IN (SELECT t.id FROM issue t WHERE lower(t.title) LIKE :pattern")
+                    .append(" UNION SELECT d.issue_id FROM description d WHERE lower(d.text) LIKE :pattern)");
+        }
+
+        String comparator = ascending ? " > " : " < ";
+        if (afterId != null) {
+            params.addValue("afterId", afterId);
+            if (column.equals("i.id")) {
+                sql.append(" AND i.id").append(comparator).append(":afterId");
+            } else {
+                params.addValue("afterValue", afterValue);
+                sql.append(" AND (").append(column).append(", i.id)").append(comparator).append("(:afterValue, :afterId)");
+            }
+        }
+
+        String direction = ascending ? " ASC" : " DESC";
+        sql.append(" ORDER BY ");
+        if (!column.equals("i.id")) {
+            sql.append(column).append(direction).append(", ");
+        }
+        sql.append("i.id").append(direction).append(" LIMIT :limit");
+
+        return jdbcTemplate.queryForList(sql.toString(), params, UUID.class);
+    }
+
+    /**
+     * Condiciones WHERE equivalentes a los filtros de IssueSpecifications (sin la palabra clave).
+     */
+    static String whereClause(IssueSearchFilter filter, MapSqlParameterSource params) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("TRUE");
+        addUuidCondition(conditions, params, "i.project_id", "projectId", filter.projectId());
+        addUuidCondition(conditions, params, "i.sprint_id", "sprintId", filter.sprintId());
+        addLongCondition(conditions, params, "i.status", "status", filter.status());
+        addLongCondition(conditions, params, "i.priority", "priority", filter.priority());
+        addLongCondition(conditions, params, "i.type", "type", filter.type());
+        if (filter.assignedIds() != null && !filter.assignedIds().isEmpty()) {
+            conditions.add("i.assigned_id IN (:assignedIds)");
+            params.addValue("assignedIds", filter.assignedIds());
+        }
+        if (filter.isParent() != null) {
+            conditions.add(filter.isParent() ? "i.parent_id IS NULL" : "i.parent_id IS NOT NULL");
+        }
+        return String.join(" AND ", conditions);
+    }
+
+    static String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Campo de ordenamiento no válido: " + order.getProperty());
+            }
+            if (!column.equals("i.id")) {
+                orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+            }
+        }
+        orders.add("i.id");
+        return String.join(", ", orders);
+    }
+
+    private static void addUuidCondition(List<String> conditions, MapSqlParameterSource params, String column, String name, UUID value) {
+        if (value == null) {
+            return;
+        }
+        if (value.equals(IssueSpecifications.NULL_FILTER_UUID)) {
+            conditions.add(column + " IS NULL");
+        } else {
+            conditions.add(column + " = :" + name);
+            params.addValue(name, value);
+        }
+    }
+
+    private static void addLongCondition(List<String> conditions, MapSqlParameterSource params, String column, String name, Long value) {
+        if (value == null) {
+            return;
+        }
+        if (value.equals(IssueSpecifications.NULL_FILTER_LONG)) {
+            conditions.add(column + " IS NULL");
+        } else {
+            conditions.add(column + " = :" + name);
+            params.addValue(name, value);
+        }
+    }
+
+    private record NativeSearch(String sql, String from, MapSqlParameterSource params) {
+        String countSql() {
+            return "SELECT count(*)" + from;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Columnas de una fila de issue tal como quedan antes o después de una actualización masiva. Es lo que se
+ * guarda en la auditoría en lugar de la entidad, cuyo setStatus cambia lastStatusUpdate al construirla.
+ */
+public record IssueSnapshot(UUID id, String title, Integer estimatedTime, UUID projectId, UUID sprintId,
+                            Long priority, Long status, Long type, LocalDateTime createdAt, LocalDateTime updatedAt,
+                            LocalDateTime lastStatusUpdate, LocalDate startDate, LocalDate endDate, LocalDate realDate,
+                            UUID reporterId, UUID assignedId, UUID organizationId, UUID parentId) {
+}
@@ -0,0 +1,21 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import java.util.UUID;
+
+/**
+ * Una issue a la que se le cambió el sprint, con la fila anterior y la nueva tal como las devuelve el UPDATE ... RETURNING.
+ */
+public record IssueSprintChange(IssueSnapshot before, IssueSnapshot after) {
+
+    public UUID id() {
+        return after.id();
+    }
+
+    public String title() {
+        return after.title();
+    }
+
+    public UUID projectId() {
+        return after.projectId();
+    }
+}
@@ -0,0 +1,48 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Versión compartida de los resultados de búsqueda de cada proyecto (tabla project_search_version).
+ */
+@Repository
+public class ProjectSearchVersionRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ProjectSearchVersionRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Versión actual del proyecto; 0 si nunca se escribió.
+     */
+    public long findVersion(UUID projectId) {
+        List<Long> versions = jdbcTemplate.queryForList("SELECT version FROM project_search_version WHERE project_id = :projectId",
+                new MapSqlParameterSource("projectId", projectId), Long.class);
+        return versions.isEmpty() ? 0L : versions.get(0);
+    }
+
+    /**
+     * Incrementa la versión de los proyectos en la transacción actual. Las filas se bloquean en el
+     * orden recibido, por eso el llamador debe pasarlos ordenados para no provocar interbloqueos.
+     */
+    public void increment(Collection<UUID> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("""
+                        INSERT INTO project_search_version (project_id, version)
+                        SELECT p.project_id, 1 FROM unnest(ARRAY[:projectIds]::uuid[]) WITH ORDINALITY AS p(project_id, position)
+                        ORDER BY p.position
+                        ON CONFLICT (project_id) DO UPDATE SET version = project_search_version.version + 1
+                        """,
+                new MapSqlParameterSource("projectIds", List.copyOf(projectIds)));
+    }
+}
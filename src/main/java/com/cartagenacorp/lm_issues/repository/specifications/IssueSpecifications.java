@@ -11,8 +11,8 @@ import java.util.UUID;
 
 public class IssueSpecifications {
 
-    private static final Long NULL_FILTER_LONG = -1L;
-    private static final UUID NULL_FILTER_UUID = new UUID(0L, 0L);
+    public static final Long NULL_FILTER_LONG = -1L;
+    public static final UUID NULL_FILTER_UUID = new UUID(0L, 0L);
     public static Specification<Issue> searchByKeyword(String keyword) {
         return (root, query, criteriaBuilder) -> {
             if (keyword == null || keyword.trim().isEmpty()) {
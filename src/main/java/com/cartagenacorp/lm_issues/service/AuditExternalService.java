@@ -1,20 +1,15 @@
 package com.cartagenacorp.lm_issues.service;
 
 import com.cartagenacorp.lm_issues.dto.IssueHistoryDto;
-import com.cartagenacorp.lm_issues.entity.Issue;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.cartagenacorp.lm_issues.util.ServiceTokenProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.UUID;
@@ -28,47 +23,25 @@ public class AuditExternalService {
     private String auditServiceUrl;
 
     private final RestTemplate restTemplate;
+    private final ServiceTokenProvider serviceTokenProvider;
 
-    public AuditExternalService(RestTemplate restTemplate) {
+    public AuditExternalService(@Qualifier("auditRestTemplate") RestTemplate restTemplate, ServiceTokenProvider serviceTokenProvider) {
         this.restTemplate = restTemplate;
+        this.serviceTokenProvider = serviceTokenProvider;
     }
 
-    public void logChange(UUID issueId, String issueTitle, UUID userId, String action, String description, UUID projectId, Issue beforeChange, Issue afterChange, String token) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        String beforeJson = beforeChange != null ? mapper.writeValueAsString(beforeChange) : null;
-        String afterJson  = afterChange  != null ? mapper.writeValueAsString(afterChange)  : null;
-
-        IssueHistoryDto auditLog = IssueHistoryDto.builder()
-                .issueId(issueId)
-                .issueTitle(issueTitle)
-                .userId(userId)
-                .action(action)
-                .description(description)
-                .projectId(projectId)
-                .beforeChange(beforeJson)
-                .afterChange(afterJson)
-                .build();
-
+    /**
+     * Envía un registro de auditoría a lm-audit con el token propio del servicio, no el del usuario:
+     * el envío puede ocurrir mucho después de que el token del usuario venza. Los errores se propagan
+     * para que {@link AuditOutboxDispatcher} decida si reintentar o mover el registro a DEAD.
+     */
+    public void sendAuditLog(IssueHistoryDto auditLog, UUID organizationId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(token);
+        headers.setBearerAuth(serviceTokenProvider.getToken(organizationId));
         HttpEntity<IssueHistoryDto> request = new HttpEntity<>(auditLog, headers);
 
-        try {
-            logger.info("[AuditExternalService] [logChange] Realizando envio de auditoria: {}", auditLog);
-            restTemplate.postForEntity(auditServiceUrl + "/logChange", request, Void.class);
-        } catch (HttpClientErrorException.Unauthorized ex) {
-            logger.warn("[AuditExternalService] [logChange] Token no autorizado: {}", ex.getMessage());
-        } catch (HttpClientErrorException.Forbidden ex) {
-            logger.warn("[AuditExternalService] [logChange] Permisos insuficientes: {}", ex.getMessage());
-        } catch (ResourceAccessException ex) {
-            logger.warn("[AuditExternalService] [logChange] El servicio externo no esta disponible: {}",ex.getMessage());
-        }  catch (Exception ex) {
-            logger.error("[AuditExternalService] [logChange] Error al enviar la auditoria: {}", ex.getMessage(), ex);
-        }
-
+        logger.info("[AuditExternalService] [sendAuditLog] Realizando envio de auditoria: {}", auditLog);
+        restTemplate.postForEntity(auditServiceUrl + "/logChange", request, Void.class);
     }
 }
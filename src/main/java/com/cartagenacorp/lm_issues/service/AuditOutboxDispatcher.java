@@ -0,0 +1,197 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.cartagenacorp.lm_issues.entity.AuditOutbox;
+import com.cartagenacorp.lm_issues.entity.AuditOutboxStatus;
+import com.cartagenacorp.lm_issues.repository.AuditOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Envía en lotes los registros pendientes de audit_outbox. Cada lote se toma en una transacción corta
+ * que lo marca IN_FLIGHT con un lease, se envía fuera de cualquier transacción y el resultado se
+ * registra en una segunda transacción corta. Los errores transitorios (incluidos 401, 403 y 429) se
+ * reintentan con backoff exponencial; el resto de errores 4xx o el agotamiento de intentos dejan el
+ * registro en DEAD.
+ */
+@Component
+public class AuditOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditOutboxDispatcher.class);
+
+    private static final Set<Integer> RETRYABLE_CLIENT_ERRORS = Set.of(
+            HttpStatus.UNAUTHORIZED.value(), HttpStatus.FORBIDDEN.value(), HttpStatus.TOO_MANY_REQUESTS.value());
+
+    private final AuditOutboxRepository auditOutboxRepository;
+    private final AuditOutboxService auditOutboxService;
+    private final AuditExternalService auditExternalService;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+
+    @Value("${audit.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${audit.outbox.max-batches-per-tick:10}")
+    private int maxBatchesPerTick;
+
+    @Value("${audit.outbox.lease:PT10M}")
+    private Duration lease;
+
+    @Value("${audit.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${audit.outbox.backoff-base:PT5S}")
+    private Duration backoffBase;
+
+    @Value("${audit.outbox.backoff-max:PT10M}")
+    private Duration backoffMax;
+
+    public AuditOutboxDispatcher(AuditOutboxRepository auditOutboxRepository, AuditOutboxService auditOutboxService,
+                                 AuditExternalService auditExternalService, PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.auditOutboxRepository = auditOutboxRepository;
+        this.auditOutboxService = auditOutboxService;
+        this.auditExternalService = auditExternalService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sentCounter = meterRegistry.counter("issues.audit.outbox", "result", "sent");
+        this.retryCounter = meterRegistry.counter("issues.audit.outbox", "result", "retry");
+        this.deadCounter = meterRegistry.counter("issues.audit.outbox", "result", "dead");
+    }
+
+    /**
+     * Envía como máximo maxBatchesPerTick lotes; si quedan registros pendientes los toma el siguiente
+     * sondeo, así una acumulación grande no retiene el hilo del planificador.
+     */
+    @Scheduled(fixedDelayString = "${audit.outbox.poll-interval:PT2S}")
+    public void dispatch() {
+        boolean more = true;
+        for (int batches = 0; more && batches < maxBatchesPerTick; batches++) {
+            more = dispatchBatch();
+        }
+    }
+
+    /**
+     * @return true si el lote se envió completo y puede haber más registros pendientes
+     */
+    private boolean dispatchBatch() {
+        // Postgres guarda microsegundos: el lease se usa como token de fencing en las comparaciones
+        LocalDateTime leaseUntil = LocalDateTime.now().plus(lease).truncatedTo(ChronoUnit.MICROS);
+        List<AuditOutbox> batch = transactionTemplate.execute(status -> claim(leaseUntil));
+        if (batch == null || batch.isEmpty()) {
+            return false;
+        }
+        logger.debug("[AuditOutboxDispatcher] [dispatchBatch] Enviando {} registros de auditoría pendientes", batch.size());
+
+        List<UUID> sent = new ArrayList<>();
+        List<AuditOutbox> failed = new ArrayList<>();
+        boolean serviceDown = false;
+        for (AuditOutbox entry : batch) {
+            if (serviceDown || LocalDateTime.now().isAfter(leaseUntil)) {
+                // No se intentó: vuelve a PENDING sin consumir un intento
+                entry.setStatus(AuditOutboxStatus.PENDING);
+                entry.setNextAttemptAt(LocalDateTime.now());
+                failed.add(entry);
+                continue;
+            }
+            try {
+                auditExternalService.sendAuditLog(auditOutboxService.readPayload(entry), entry.getOrganizationId());
+                sent.add(entry.getId());
+            } catch (ResourceAccessException ex) {
+                logger.warn("[AuditOutboxDispatcher] [dispatchBatch] El servicio de auditoría no está disponible, se pospone el lote: {}", ex.getMessage());
+                scheduleRetry(entry, ex);
+                failed.add(entry);
+                serviceDown = true;
+            } catch (HttpClientErrorException ex) {
+                if (RETRYABLE_CLIENT_ERRORS.contains(ex.getStatusCode().value())) {
+                    logger.warn("[AuditOutboxDispatcher] [dispatchBatch] lm-audit respondió {} para la auditoría ID={}, se reintentará", ex.getStatusCode(), entry.getId());
+                    scheduleRetry(entry, ex);
+                } else {
+                    logger.error("[AuditOutboxDispatcher] [dispatchBatch] Auditoría ID={} rechazada por lm-audit: {}", entry.getId(), ex.getMessage());
+                    markDead(entry, ex);
+                }
+                failed.add(entry);
+            } catch (Exception ex) {
+                logger.warn("[AuditOutboxDispatcher] [dispatchBatch] Error al enviar la auditoría ID={}: {}", entry.getId(), ex.getMessage());
+                scheduleRetry(entry, ex);
+                failed.add(entry);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> record(sent, failed, leaseUntil));
+        return !serviceDown && batch.size() == batchSize;
+    }
+
+    private List<AuditOutbox> claim(LocalDateTime leaseUntil) {
+        List<AuditOutbox> batch = auditOutboxRepository.findDueForDispatch(LocalDateTime.now(), batchSize);
+        for (AuditOutbox entry : batch) {
+            entry.setStatus(AuditOutboxStatus.IN_FLIGHT);
+            entry.setNextAttemptAt(leaseUntil);
+        }
+        return batch;
+    }
+
+    private void record(List<UUID> sent, List<AuditOutbox> failed, LocalDateTime leaseUntil) {
+        if (!sent.isEmpty()) {
+            int deleted = auditOutboxRepository.deleteSent(sent, leaseUntil);
+            sentCounter.increment(sent.size());
+            if (deleted < sent.size()) {
+                logger.warn("[AuditOutboxDispatcher] [record] {} auditorías enviadas con el lease vencido; otro proceso las reenviará", sent.size() - deleted);
+            }
+        }
+        for (AuditOutbox entry : failed) {
+            int updated = auditOutboxRepository.updateOutcome(entry.getId(), leaseUntil, entry.getStatus(),
+                    entry.getAttempts(), entry.getNextAttemptAt(), entry.getLastError());
+            if (updated == 0) {
+                logger.warn("[AuditOutboxDispatcher] [record] El lease de la auditoría ID={} venció, se descarta el resultado", entry.getId());
+            }
+        }
+    }
+
+    private void scheduleRetry(AuditOutbox entry, Exception ex) {
+        entry.setAttempts(entry.getAttempts() + 1);
+        if (entry.getAttempts() >= maxAttempts) {
+            markDead(entry, ex);
+            return;
+        }
+        Duration backoff = backoffBase.multipliedBy(1L << Math.min(entry.getAttempts() - 1, 20));
+        if (backoff.compareTo(backoffMax) > 0) {
+            backoff = backoffMax;
+        }
+        entry.setStatus(AuditOutboxStatus.PENDING);
+        entry.setNextAttemptAt(LocalDateTime.now().plus(backoff));
+        entry.setLastError(truncate(ex.getMessage()));
+        retryCounter.increment();
+    }
+
+    private void markDead(AuditOutbox entry, Exception ex) {
+        entry.setStatus(AuditOutboxStatus.DEAD);
+        entry.setLastError(truncate(ex.getMessage()));
+        deadCounter.increment();
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -0,0 +1,107 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.cartagenacorp.lm_issues.dto.IssueHistoryDto;
+import com.cartagenacorp.lm_issues.entity.AuditOutbox;
+import com.cartagenacorp.lm_issues.entity.Issue;
+import com.cartagenacorp.lm_issues.repository.AuditOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Registra los cambios de auditoría en la tabla audit_outbox dentro de la misma transacción
+ * del cambio. {@link AuditOutboxDispatcher} se encarga de enviarlos a lm-audit.
+ */
+@Service
+public class AuditOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditOutboxService.class);
+
+    private final AuditOutboxRepository auditOutboxRepository;
+    private final ObjectMapper mapper;
+
+    public AuditOutboxService(AuditOutboxRepository auditOutboxRepository) {
+        this.auditOutboxRepository = auditOutboxRepository;
+        this.mapper = new ObjectMapper();
+        this.mapper.registerModule(new JavaTimeModule());
+        this.mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Transactional
+    public void logChange(UUID issueId, String issueTitle, UUID userId, String action, String description, UUID projectId, Issue beforeChange, Issue afterChange, UUID organizationId) throws JsonProcessingException {
+        String beforeJson = beforeChange != null ? mapper.writeValueAsString(beforeChange) : null;
+        String afterJson  = afterChange  != null ? mapper.writeValueAsString(afterChange)  : null;
+
+        IssueHistoryDto auditLog = IssueHistoryDto.builder()
+                .issueId(issueId)
+                .issueTitle(issueTitle)
+                .userId(userId)
+                .action(action)
+                .description(description)
+                .projectId(projectId)
+                .beforeChange(beforeJson)
+                .afterChange(afterJson)
+                .build();
+
+        AuditOutbox entry = new AuditOutbox();
+        entry.setPayload(mapper.writeValueAsString(auditLog));
+        entry.setOrganizationId(organizationId);
+        entry.setNextAttemptAt(LocalDateTime.now());
+        auditOutboxRepository.save(entry);
+        logger.debug("[AuditOutboxService] [logChange] Auditoría {} de la Issue ID={} registrada en el outbox", action, issueId);
+    }
+
+    /**
+     * Registra varios cambios del mismo usuario con una sola inserción por lotes en el outbox.
+     */
+    @Transactional
+    public void logChanges(List<AuditChange> changes, UUID userId, UUID organizationId) throws JsonProcessingException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<AuditOutbox> entries = new ArrayList<>(changes.size());
+        for (AuditChange change : changes) {
+            IssueHistoryDto auditLog = IssueHistoryDto.builder()
+                    .issueId(change.issueId())
+                    .issueTitle(change.issueTitle())
+                    .userId(userId)
+                    .action(change.action())
+                    .description(change.description())
+                    .projectId(change.projectId())
+                    .beforeChange(change.beforeChange() != null ? mapper.writeValueAsString(change.beforeChange()) : null)
+                    .afterChange(change.afterChange() != null ? mapper.writeValueAsString(change.afterChange()) : null)
+                    .build();
+
+            AuditOutbox entry = new AuditOutbox();
+            entry.setPayload(mapper.writeValueAsString(auditLog));
+            entry.setOrganizationId(organizationId);
+            entry.setNextAttemptAt(now);
+            entries.add(entry);
+        }
+        auditOutboxRepository.saveAll(entries);
+        logger.debug("[AuditOutboxService] [logChanges] {} auditorías registradas en el outbox", entries.size());
+    }
+
+    IssueHistoryDto readPayload(AuditOutbox entry) throws JsonProcessingException {
+        return mapper.readValue(entry.getPayload(), IssueHistoryDto.class);
+    }
+
+    /**
+     * beforeChange y afterChange se guardan tal cual en JSON: las operaciones masivas pasan la fila leída
+     * con RETURNING ({@link com.cartagenacorp.lm_issues.repository.IssueSnapshot}) en lugar de la entidad.
+     */
+    public record AuditChange(UUID issueId, String issueTitle, String action, String description, UUID projectId,
+                              Object beforeChange, Object afterChange) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.cartagenacorp.lm_issues.dto.ImportChunkResultDTO;
+import com.cartagenacorp.lm_issues.dto.IssueDTO;
+import com.cartagenacorp.lm_issues.entity.ImportJob;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serialización del payload y de los errores por bloque de los trabajos de importación. Usa el
+ * ObjectMapper de la aplicación, así el NDJSON acepta lo mismo que el arreglo JSON de /import/jobs.
+ */
+@Component
+class ImportJobCodec {
+
+    private static final TypeReference<List<IssueDTO>> ISSUES_TYPE = new TypeReference<>() { };
+    private static final TypeReference<List<ImportChunkResultDTO>> CHUNKS_TYPE = new TypeReference<>() { };
+
+    private final ObjectMapper mapper;
+
+    ImportJobCodec(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    MappingIterator<IssueDTO> readNdjson(InputStream body) throws IOException {
+        return mapper.readerFor(IssueDTO.class).readValues(body);
+    }
+
+    String write(Object value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo serializar el trabajo de importación", ex);
+        }
+    }
+
+    List<IssueDTO> readIssues(String payload) {
+        try {
+            return mapper.readValue(payload, ISSUES_TYPE);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Payload de importación ilegible", ex);
+        }
+    }
+
+    List<ImportChunkResultDTO> readErrors(ImportJob job) {
+        if (job.getErrors() == null) {
+            return new ArrayList<>();
+        }
+        try {
+            return mapper.readValue(job.getErrors(), CHUNKS_TYPE);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Errores del trabajo de importación ilegibles", ex);
+        }
+    }
+}
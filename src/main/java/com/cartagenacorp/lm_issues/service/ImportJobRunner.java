@@ -0,0 +1,297 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.cartagenacorp.lm_issues.dto.ImportChunkResultDTO;
+import com.cartagenacorp.lm_issues.dto.IssueDTO;
+import com.cartagenacorp.lm_issues.entity.ImportJob;
+import com.cartagenacorp.lm_issues.entity.ImportJobPayload;
+import com.cartagenacorp.lm_issues.entity.ImportJobStatus;
+import com.cartagenacorp.lm_issues.repository.ImportJobPayloadRepository;
+import com.cartagenacorp.lm_issues.repository.ImportJobRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Procesa los trabajos de importación en un pool acotado. Cada trabajo se toma con un lease y un
+ * lease_token nuevo; un latido renueva el lease de los trabajos en curso sin importar cuánto dure
+ * cada bloque. El latido tiene su propio hilo: el planificador de @Scheduled es compartido (por
+ * ejemplo con AuditOutboxDispatcher) y una tarea lenta allí no debe dejar vencer los leases. Si la instancia se detiene a mitad de un trabajo, cuando el lease vence otra instancia
+ * (o esta misma al arrancar) lo retoma desde next_chunk. Todas las escrituras sobre el trabajo exigen
+ * el lease_token: si otra instancia lo retomó, el bloque en curso se revierte y esta deja el trabajo.
+ * Al apagarse de forma ordenada se termina el bloque en curso y se libera el lease.
+ */
+@Component
+public class ImportJobRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobRunner.class);
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobPayloadRepository importJobPayloadRepository;
+    private final IssueImportService issueImportService;
+    private final ImportJobCodec codec;
+    private final ThreadPoolTaskExecutor importJobExecutor;
+    private final TransactionTemplate transactionTemplate;
+    // ReentrantLock en lugar de synchronized: dispatch espera conexiones del pool y, con hilos
+    // virtuales, un monitor retenido fija el hilo a su carrier durante esa espera
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    // Trabajos que esta instancia está procesando, con el lease_token de su toma
+    private final Map<UUID, Lease> running = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeatExecutor;
+    private volatile boolean stopping;
+
+    @Value("${import.jobs.workers:2}")
+    private int workers;
+
+    @Value("${import.jobs.lease:PT2M}")
+    private Duration lease;
+
+    @Value("${import.jobs.retention:P7D}")
+    private Duration retention;
+
+    public ImportJobRunner(ImportJobRepository importJobRepository, ImportJobPayloadRepository importJobPayloadRepository,
+                           IssueImportService issueImportService, ImportJobCodec codec,
+                           @Qualifier("importJobExecutor") ThreadPoolTaskExecutor importJobExecutor,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${import.jobs.heartbeat-interval:PT30S}") Duration heartbeatInterval) {
+        this.importJobRepository = importJobRepository;
+        this.importJobPayloadRepository = importJobPayloadRepository;
+        this.issueImportService = issueImportService;
+        this.codec = codec;
+        this.importJobExecutor = importJobExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("import-job-heartbeat-");
+        threadFactory.setDaemon(true);
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long period = heartbeatInterval.toMillis();
+        this.heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Toma tantos trabajos como hilos libres haya. También recoge los trabajos interrumpidos.
+     */
+    @Scheduled(fixedDelayString = "${import.jobs.poll-interval:PT5S}")
+    public void dispatch() {
+        dispatchLock.lock();
+        try {
+            doDispatch();
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    private void doDispatch() {
+        if (stopping) {
+            return;
+        }
+        int free = workers - importJobExecutor.getActiveCount() - importJobExecutor.getQueueSize();
+        if (free <= 0) {
+            return;
+        }
+        try {
+            Map<UUID, UUID> claimed = transactionTemplate.execute(status -> claim(free));
+            claimed.forEach((jobId, token) -> {
+                Lease current = new Lease(token);
+                running.put(jobId, current);
+                try {
+                    importJobExecutor.execute(() -> run(jobId, current));
+                } catch (TaskRejectedException ex) {
+                    logger.warn("[ImportJobRunner] [dispatch] Sin hilos libres para el trabajo ID={}, se reintentará", jobId);
+                    running.remove(jobId);
+                    transactionTemplate.executeWithoutResult(status -> importJobRepository.releaseLease(jobId, token));
+                }
+            });
+        } catch (Exception ex) {
+            logger.error("[ImportJobRunner] [dispatch] Error al tomar trabajos de importación: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private Map<UUID, UUID> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ImportJob> jobs = importJobRepository.findClaimable(now, limit);
+        Map<UUID, UUID> claimed = new LinkedHashMap<>();
+        for (ImportJob job : jobs) {
+            if (job.getStatus() == ImportJobStatus.RUNNING) {
+                logger.info("[ImportJobRunner] [claim] Retomando el trabajo ID={} desde el bloque {}", job.getId(), job.getNextChunk());
+            }
+            job.setStatus(ImportJobStatus.RUNNING);
+            job.setLeaseUntil(now.plus(lease));
+            job.setLeaseToken(UUID.randomUUID());
+            if (job.getStartedAt() == null) {
+                job.setStartedAt(now);
+            }
+            claimed.put(job.getId(), job.getLeaseToken());
+        }
+        return claimed;
+    }
+
+    /**
+     * Renueva el lease de los trabajos en curso. Si un trabajo ya no tiene el lease_token de esta
+     * instancia (otra lo retomó), se marca como perdido y su hilo lo deja en el siguiente bloque.
+     */
+    private void heartbeat() {
+        running.forEach((jobId, current) -> {
+            try {
+                Integer updated = transactionTemplate.execute(status ->
+                        importJobRepository.renewLease(jobId, current.token(), LocalDateTime.now().plus(lease)));
+                if (updated == null || updated == 0) {
+                    logger.warn("[ImportJobRunner] [heartbeat] El trabajo ID={} fue retomado por otra instancia, se detiene aquí", jobId);
+                    current.lost = true;
+                }
+            } catch (Exception ex) {
+                logger.error("[ImportJobRunner] [heartbeat] No se pudo renovar el lease del trabajo ID={}: {}", jobId, ex.getMessage());
+            }
+        });
+    }
+
+    private void run(UUID jobId, Lease current) {
+        try {
+            process(jobId, current);
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    private void process(UUID jobId, Lease current) {
+        ImportJob job = importJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        int total = 0;
+        int inserted = 0;
+        try {
+            List<IssueDTO> issues = codec.readIssues(importJobPayloadRepository.findById(jobId)
+                    .map(ImportJobPayload::getPayload)
+                    .orElseThrow(() -> new IllegalStateException("El trabajo no tiene payload")));
+            for (int chunk = job.getNextChunk(); chunk < job.getTotalChunks(); chunk++) {
+                if (current.lost) {
+                    logger.warn("[ImportJobRunner] [run] Se perdió el lease del trabajo ID={} antes del bloque {}", jobId, chunk);
+                    return;
+                }
+                if (stopping) {
+                    logger.info("[ImportJobRunner] [run] Apagado en curso, el trabajo ID={} se retomará desde el bloque {}", jobId, chunk);
+                    transactionTemplate.executeWithoutResult(status -> importJobRepository.releaseLease(jobId, current.token()));
+                    return;
+                }
+                int from = chunk * job.getChunkSize();
+                int to = Math.min(from + job.getChunkSize(), issues.size());
+                int next = chunk + 1;
+                List<IssueDTO> block = issues.subList(from, to);
+                ImportChunkResultDTO result = issueImportService.importChunk(block, chunk, from,
+                        () -> advance(jobId, current, next, block.size(), null));
+                if (!result.isSuccess()) {
+                    transactionTemplate.executeWithoutResult(status -> advance(jobId, current, next, 0, result));
+                }
+                total += block.size();
+                inserted += result.getInserted();
+            }
+            transactionTemplate.executeWithoutResult(status -> finish(jobId, current, ImportJobStatus.COMPLETED, null));
+            logger.info("[ImportJobRunner] [run] Trabajo de importación ID={} completado", jobId);
+        } catch (LeaseLostException ex) {
+            logger.warn("[ImportJobRunner] [run] El trabajo ID={} fue retomado por otra instancia, se revierte el bloque en curso", jobId);
+        } catch (Exception ex) {
+            logger.error("[ImportJobRunner] [run] El trabajo de importación ID={} falló: {}", jobId, ex.getMessage(), ex);
+            try {
+                transactionTemplate.executeWithoutResult(status -> finish(jobId, current, ImportJobStatus.FAILED, ex.getMessage()));
+            } catch (LeaseLostException lost) {
+                logger.warn("[ImportJobRunner] [run] El trabajo ID={} fue retomado por otra instancia, no se marca como fallido", jobId);
+            }
+        } finally {
+            if (total > 0) {
+                issueImportService.recordThroughput(total, inserted, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Avanza el progreso del trabajo y renueva su lease. Para un bloque exitoso se ejecuta dentro
+     * de la transacción que insertó sus issues, así next_chunk nunca apunta a un bloque ya insertado.
+     * Sin el lease_token lanza LeaseLostException, que revierte esa transacción.
+     */
+    private void advance(UUID jobId, Lease current, int nextChunk, int inserted, ImportChunkResultDTO failedChunk) {
+        LocalDateTime leaseUntil = LocalDateTime.now().plus(lease);
+        int updated;
+        if (failedChunk == null) {
+            updated = importJobRepository.advance(jobId, current.token(), nextChunk, inserted, leaseUntil);
+        } else {
+            ImportJob job = importJobRepository.findById(jobId).orElseThrow();
+            List<ImportChunkResultDTO> errors = codec.readErrors(job);
+            errors.add(failedChunk);
+            updated = importJobRepository.advanceFailed(jobId, current.token(), nextChunk,
+                    failedChunk.getTo() - failedChunk.getFrom(), codec.write(errors), leaseUntil);
+        }
+        if (updated == 0) {
+            current.lost = true;
+            throw new LeaseLostException();
+        }
+    }
+
+    private void finish(UUID jobId, Lease current, ImportJobStatus status, String error) {
+        String lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (importJobRepository.finish(jobId, current.token(), status, LocalDateTime.now(), lastError) == 0) {
+            current.lost = true;
+            throw new LeaseLostException();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${import.jobs.cleanup-interval:PT1H}")
+    public void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<UUID> ids = importJobRepository.findIdsFinishedBefore(LocalDateTime.now().minus(retention));
+            if (!ids.isEmpty()) {
+                importJobPayloadRepository.deleteByJobIds(ids);
+                importJobRepository.deleteByIds(ids);
+                logger.info("[ImportJobRunner] [cleanup] Eliminados {} trabajos de importación finalizados", ids.size());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        // Los bloques en curso terminan después; si se pierde el lease aquí, otra instancia los retoma
+        heartbeatExecutor.shutdownNow();
+    }
+
+    private static final class Lease {
+
+        private final UUID token;
+        private volatile boolean lost;
+
+        private Lease(UUID token) {
+            this.token = token;
+        }
+
+        private UUID token() {
+            return token;
+        }
+    }
+
+    private static final class LeaseLostException extends RuntimeException {
+
+        private LeaseLostException() {
+            super("El lease del trabajo de importación lo tiene otra instancia");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.cartagenacorp.lm_issues.dto.ImportChunkResultDTO;
+import com.cartagenacorp.lm_issues.dto.ImportJobDTO;
+import com.cartagenacorp.lm_issues.dto.IssueDTO;
+import com.cartagenacorp.lm_issues.entity.ImportJob;
+import com.cartagenacorp.lm_issues.entity.ImportJobPayload;
+import com.cartagenacorp.lm_issues.exceptions.BaseException;
+import com.cartagenacorp.lm_issues.repository.ImportJobPayloadRepository;
+import com.cartagenacorp.lm_issues.repository.ImportJobRepository;
+import com.cartagenacorp.lm_issues.util.ConstantUtil;
+import com.cartagenacorp.lm_issues.util.JwtContextHolder;
+import com.fasterxml.jackson.databind.MappingIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Recibe importaciones asíncronas: prepara las issues en el hilo de la petición (donde está el JWT),
+ * guarda el trabajo y su payload y devuelve el ID. {@link ImportJobRunner} las procesa por bloques.
+ */
+@Service
+public class ImportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobService.class);
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobPayloadRepository importJobPayloadRepository;
+    private final IssueImportService issueImportService;
+    private final ImportJobRunner importJobRunner;
+    private final ImportJobCodec codec;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${import.jobs.max-items:100000}")
+    private int maxItems;
+
+    public ImportJobService(ImportJobRepository importJobRepository, ImportJobPayloadRepository importJobPayloadRepository,
+                            IssueImportService issueImportService, ImportJobRunner importJobRunner, ImportJobCodec codec,
+                            PlatformTransactionManager transactionManager) {
+        this.importJobRepository = importJobRepository;
+        this.importJobPayloadRepository = importJobPayloadRepository;
+        this.issueImportService = issueImportService;
+        this.importJobRunner = importJobRunner;
+        this.codec = codec;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public ImportJobDTO submit(List<IssueDTO> issues) {
+        if (issues != null && issues.size() > maxItems) {
+            logger.warn("[ImportJobService] [submit] La importación excede el máximo de {} Issues: {}", maxItems, issues.size());
+            throw new BaseException(ConstantUtil.IMPORT_TOO_LARGE, HttpStatus.PAYLOAD_TOO_LARGE.value());
+        }
+        issueImportService.prepare(issues);
+
+        ImportJob job = new ImportJob();
+        job.setId(UUID.randomUUID());
+        job.setTotalItems(issues.size());
+        job.setChunkSize(issueImportService.getChunkSize());
+        job.setCreatedBy(JwtContextHolder.getUserId());
+        job.setOrganizationId(JwtContextHolder.getOrganizationId());
+        ImportJobPayload payload = new ImportJobPayload(job.getId(), codec.write(issues));
+        ImportJob saved = transactionTemplate.execute(status -> {
+            importJobPayloadRepository.save(payload);
+            return importJobRepository.save(job);
+        });
+        logger.info("[ImportJobService] [submit] Trabajo de importación ID={} registrado con {} Issues en {} bloques",
+                saved.getId(), saved.getTotalItems(), saved.getTotalChunks());
+
+        // Se intenta empezar enseguida; si no hay hilos libres lo toma el siguiente sondeo
+        importJobRunner.dispatch();
+        return toDto(saved, List.of(), null);
+    }
+
+    /**
+     * Una issue JSON por línea; las líneas vacías se ignoran. El cuerpo se lee sin tener una conexión tomada.
+     */
+    public ImportJobDTO submitNdjson(InputStream body) {
+        List<IssueDTO> issues = new ArrayList<>();
+        try (MappingIterator<IssueDTO> iterator = codec.readNdjson(body)) {
+            while (iterator.hasNextValue()) {
+                issues.add(iterator.nextValue());
+                if (issues.size() > maxItems) {
+                    logger.warn("[ImportJobService] [submitNdjson] La importación excede el máximo de {} Issues", maxItems);
+                    throw new BaseException(ConstantUtil.IMPORT_TOO_LARGE, HttpStatus.PAYLOAD_TOO_LARGE.value());
+                }
+            }
+        } catch (IOException ex) {
+            logger.warn("[ImportJobService] [submitNdjson] No se pudo leer la línea {} del NDJSON: {}", issues.size() + 1, ex.getMessage());
+            throw new BaseException(ConstantUtil.INVALID_INPUT + ": línea " + (issues.size() + 1), HttpStatus.BAD_REQUEST.value());
+        }
+        return submit(issues);
+    }
+
+    @Transactional(readOnly = true)
+    public ImportJobDTO getJob(UUID jobId, boolean includeIds) {
+        ImportJob job = importJobRepository.findById(jobId)
+                .filter(found -> Objects.equals(found.getOrganizationId(), JwtContextHolder.getOrganizationId()))
+                .orElseThrow(() -> {
+                    logger.warn("[ImportJobService] [getJob] Trabajo de importación no encontrado con ID={}", jobId);
+                    return new BaseException("Trabajo de importación no encontrado", HttpStatus.NOT_FOUND.value());
+                });
+        List<ImportChunkResultDTO> errors = codec.readErrors(job);
+        return toDto(job, errors, includeIds ? createdIds(job, errors) : null);
+    }
+
+    /**
+     * Lee el payload completo del trabajo: solo para includeIds=true, no para cada sondeo del progreso.
+     */
+    private List<UUID> createdIds(ImportJob job, List<ImportChunkResultDTO> errors) {
+        List<IssueDTO> issues = codec.readIssues(importJobPayloadRepository.findById(job.getId())
+                .map(ImportJobPayload::getPayload)
+                .orElse("[]"));
+        int confirmed = Math.min(job.getNextChunk() * job.getChunkSize(), issues.size());
+        List<UUID> ids = new ArrayList<>(confirmed);
+        for (int i = 0; i < confirmed; i++) {
+            ids.add(issues.get(i).getId());
+        }
+        for (ImportChunkResultDTO error : errors) {
+            for (int i = error.getFrom(); i < Math.min(error.getTo(), confirmed); i++) {
+                ids.set(i, null);
+            }
+        }
+        return ids;
+    }
+
+    private ImportJobDTO toDto(ImportJob job, List<ImportChunkResultDTO> errors, List<UUID> ids) {
+        return new ImportJobDTO(job.getId(), job.getStatus(), job.getTotalItems(), job.getInserted() + job.getFailed(),
+                job.getInserted(), job.getFailed(), job.getNextChunk(), job.getTotalChunks(),
+                errors, job.getLastError(), ids,
+                job.getCreatedAt(), job.getStartedAt(), job.getFinishedAt());
+    }
+}
@@ -0,0 +1,203 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.cartagenacorp.lm_issues.dto.ExportFormat;
+import com.cartagenacorp.lm_issues.exceptions.BaseException;
+import com.cartagenacorp.lm_issues.repository.IssueExportRepository;
+import com.cartagenacorp.lm_issues.util.JwtContextHolder;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exporta todas las issues de un proyecto escribiendo cada fila en la respuesta a medida que llega
+ * del cursor. La lectura se hace en una única transacción de solo lectura REPEATABLE READ, por lo que
+ * la exportación refleja un mismo instante aunque haya escrituras concurrentes.
+ */
+@Service
+public class IssueExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueExportService.class);
+
+    private static final List<String> COLUMNS = List.of(
+            "id", "title", "estimatedTime", "projectId", "sprintId", "priority", "status", "type",
+            "createdAt", "updatedAt", "lastStatusUpdate", "startDate", "endDate", "realDate",
+            "reporterId", "assignedId", "organizationId", "parentId", "descriptions");
+
+    private final IssueExportRepository issueExportRepository;
+    private final ProjectExternalService projectExternalService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Value("${export.flush-every:500}")
+    private int flushEvery;
+
+    public IssueExportService(IssueExportRepository issueExportRepository, ProjectExternalService projectExternalService,
+                              PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.issueExportRepository = issueExportRepository;
+        this.projectExternalService = projectExternalService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.meterRegistry = meterRegistry;
+        this.jsonFactory.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Sin el espacio que Jackson escribe entre valores raíz: cada línea es exactamente un objeto
+        this.jsonFactory.setRootValueSeparator(null);
+    }
+
+    /**
+     * Se valida antes de empezar a escribir, mientras todavía se puede responder con un código de error.
+     */
+    public void validateAccess(UUID projectId) {
+        if (!projectExternalService.validateProjectParticipant(projectId, JwtContextHolder.getToken())) {
+            logger.warn("[IssueExportService] [validateAccess] El usuario no es participante del proyecto con ID={}", projectId);
+            throw new BaseException("No eres participante en este proyecto", HttpStatus.FORBIDDEN.value());
+        }
+    }
+
+    public void export(UUID projectId, ExportFormat format, OutputStream out) throws IOException {
+        logger.info("[IssueExportService] [export] Iniciando exportación {} del proyecto ID={}", format, projectId);
+        long start = System.nanoTime();
+        RowWriter writer = format == ExportFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out);
+        long[] rows = {0};
+        try {
+            writer.writeHeader();
+            transactionTemplate.executeWithoutResult(status -> issueExportRepository.streamProject(projectId, rs -> {
+                try {
+                    writer.writeRow(rs);
+                    if (++rows[0] % flushEvery == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }));
+            writer.flush();
+        } catch (UncheckedIOException ex) {
+            // Normalmente el cliente cerró la conexión; el cursor y la transacción ya se liberaron
+            logger.warn("[IssueExportService] [export] Exportación del proyecto ID={} interrumpida tras {} issues: {}", projectId, rows[0], ex.getMessage());
+            throw ex.getCause();
+        } finally {
+            meterRegistry.counter("issues.export.rows", "format", format.name()).increment(rows[0]);
+            meterRegistry.timer("issues.export.duration", "format", format.name()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        logger.info("[IssueExportService] [export] Exportación del proyecto ID={} completada con {} issues", projectId, rows[0]);
+    }
+
+    private interface RowWriter {
+        void writeHeader() throws IOException;
+
+        void writeRow(ResultSet rs) throws SQLException, IOException;
+
+        void flush() throws IOException;
+    }
+
+    private class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = jsonFactory.createGenerator(out);
+        }
+
+        @Override
+        public void writeHeader() {
+        }
+
+        @Override
+        public void writeRow(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < COLUMNS.size() - 1; i++) {
+                Object value = rs.getObject(i + 1);
+                generator.writeFieldName(COLUMNS.get(i));
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.longValue());
+                } else {
+                    generator.writeString(text(rs, i + 1));
+                }
+            }
+            generator.writeFieldName("descriptions");
+            generator.writeRawValue(rs.getString(COLUMNS.size()));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void writeRow(ResultSet rs) throws SQLException, IOException {
+            for (int i = 1; i <= COLUMNS.size(); i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                String value = text(rs, i);
+                if (value != null) {
+                    writer.write(escape(value));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    /**
+     * Fechas en ISO-8601 igual que en las respuestas JSON de la API.
+     */
+    private static String text(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate().toString();
+        }
+        return value != null ? value.toString() : null;
+    }
+}
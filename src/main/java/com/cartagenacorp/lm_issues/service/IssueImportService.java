@@ -0,0 +1,168 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.cartagenacorp.lm_issues.dto.DescriptionDTO;
+import com.cartagenacorp.lm_issues.dto.ImportChunkResultDTO;
+import com.cartagenacorp.lm_issues.dto.ImportResultDTO;
+import com.cartagenacorp.lm_issues.dto.IssueDTO;
+import com.cartagenacorp.lm_issues.exceptions.BaseException;
+import com.cartagenacorp.lm_issues.repository.IssueImportRepository;
+import com.cartagenacorp.lm_issues.util.ConstantUtil;
+import com.cartagenacorp.lm_issues.util.JwtContextHolder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importación masiva de issues con inserciones por lotes JDBC. La lista se divide en bloques de
+ * import.chunk-size issues y cada bloque se confirma en su propia transacción, de modo que un
+ * error solo revierte su bloque y el resultado informa qué bloques se guardaron.
+ * A diferencia de createIssuesBatch, que usa las mismas inserciones en una sola transacción
+ * ({@link #importAtomically}), una importación puede quedar parcial.
+ */
+@Service
+public class IssueImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueImportService.class);
+
+    private final IssueImportRepository issueImportRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchResultCache searchResultCache;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary throughput;
+
+    @Value("${import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${import.batch-size:100}")
+    private int batchSize;
+
+    public IssueImportService(IssueImportRepository issueImportRepository, PlatformTransactionManager transactionManager,
+                              SearchResultCache searchResultCache, MeterRegistry meterRegistry) {
+        this.issueImportRepository = issueImportRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.searchResultCache = searchResultCache;
+        this.meterRegistry = meterRegistry;
+        this.throughput = DistributionSummary.builder("issues.import.throughput")
+                .description("Issues importadas por segundo en cada importación")
+                .baseUnit("issues/s")
+                .register(meterRegistry);
+    }
+
+    public ImportResultDTO importIssues(List<IssueDTO> issues) {
+        prepare(issues);
+        logger.info("[IssueImportService] [importIssues] Iniciando importación de {} Issues en bloques de {}", issues.size(), chunkSize);
+
+        List<UUID> ids = new ArrayList<>(issues.stream().map(IssueDTO::getId).toList());
+        long start = System.nanoTime();
+        List<ImportChunkResultDTO> chunks = new ArrayList<>();
+        int inserted = 0;
+        for (int from = 0, chunk = 0; from < issues.size(); from += chunkSize, chunk++) {
+            int to = Math.min(from + chunkSize, issues.size());
+            ImportChunkResultDTO result = importChunk(issues.subList(from, to), chunk, from, () -> { });
+            chunks.add(result);
+            if (result.isSuccess()) {
+                inserted += result.getInserted();
+            } else {
+                for (int i = from; i < to; i++) {
+                    ids.set(i, null);
+                }
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        double issuesPerSecond = recordThroughput(issues.size(), inserted, elapsedNanos);
+        logger.info("[IssueImportService] [importIssues] Importación finalizada: {} insertadas, {} fallidas en {} ms ({} issues/s)",
+                inserted, issues.size() - inserted, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(issuesPerSecond));
+        return new ImportResultDTO(issues.size(), inserted, issues.size() - inserted, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                issuesPerSecond, chunks, ids);
+    }
+
+    /**
+     * Inserta todas las issues en una sola transacción, con los mismos lotes JDBC que importIssues.
+     * Devuelve los DTO completados con sus IDs, reportero, organización y fechas.
+     */
+    public List<IssueDTO> importAtomically(List<IssueDTO> issues) {
+        prepare(issues);
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> issueImportRepository.insertAll(issues, batchSize));
+        searchResultCache.invalidateProjects(issues.stream().map(IssueDTO::getProjectId).filter(Objects::nonNull).toList());
+        recordThroughput(issues.size(), issues.size(), System.nanoTime() - start);
+        return issues;
+    }
+
+    /**
+     * Valida la lista y asigna IDs, reportero y organización del usuario autenticado.
+     * Debe llamarse en el hilo de la petición, donde está disponible el contexto del JWT.
+     */
+    public void prepare(List<IssueDTO> issues) {
+        if (issues == null || issues.isEmpty()) {
+            logger.warn("[IssueImportService] [prepare] La lista de Issues está vacía o es nula");
+            throw new BaseException("La lista de Issues no puede estar vacía", HttpStatus.BAD_REQUEST.value());
+        }
+        UUID userId = JwtContextHolder.getUserId();
+        UUID organizationId = JwtContextHolder.getOrganizationId();
+        logger.debug("[IssueImportService] [prepare] Preparando {} Issues. Usuario ID={}, Organización ID={}", issues.size(), userId, organizationId);
+        for (IssueDTO issue : issues) {
+            assignIds(issue, userId, organizationId);
+        }
+    }
+
+    /**
+     * Inserta un bloque de issues ya preparadas en su propia transacción. inTransaction se ejecuta
+     * dentro de la misma transacción, después de las inserciones, y se revierte junto con ellas.
+     */
+    public ImportChunkResultDTO importChunk(List<IssueDTO> block, int chunk, int from, Runnable inTransaction) {
+        int to = from + block.size();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                issueImportRepository.insertAll(block, batchSize);
+                inTransaction.run();
+            });
+            searchResultCache.invalidateProjects(block.stream().map(IssueDTO::getProjectId).filter(Objects::nonNull).toList());
+            logger.debug("[IssueImportService] [importChunk] Bloque {} ({}-{}) confirmado", chunk, from, to);
+            return new ImportChunkResultDTO(chunk, from, to, true, block.size(), null);
+        } catch (DataAccessException | TransactionException ex) {
+            logger.error("[IssueImportService] [importChunk] Error en el bloque {} ({}-{}), se revierte: {}", chunk, from, to, ex.getMessage());
+            String error = ex instanceof DataIntegrityViolationException
+                    ? ConstantUtil.DATA_INTEGRITY_FAIL_MESSAGE
+                    : ConstantUtil.INTERNAL_SERVER_ERROR;
+            return new ImportChunkResultDTO(chunk, from, to, false, 0, error);
+        }
+    }
+
+    public double recordThroughput(int total, int inserted, long elapsedNanos) {
+        double issuesPerSecond = inserted / Math.max(elapsedNanos / 1e9, 1e-9);
+        throughput.record(issuesPerSecond);
+        meterRegistry.counter("issues.import.issues", "result", "inserted").increment(inserted);
+        meterRegistry.counter("issues.import.issues", "result", "failed").increment(total - inserted);
+        return issuesPerSecond;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    private static void assignIds(IssueDTO issue, UUID userId, UUID organizationId) {
+        issue.setId(UUID.randomUUID());
+        issue.setReporterId(userId);
+        issue.setOrganizationId(organizationId);
+        if (issue.getDescriptionsDTO() != null) {
+            for (DescriptionDTO description : issue.getDescriptionsDTO()) {
+                description.setId(UUID.randomUUID());
+                description.setIssueId(issue.getId());
+            }
+        }
+    }
+}
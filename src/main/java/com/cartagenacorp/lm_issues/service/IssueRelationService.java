@@ -12,13 +12,12 @@ import com.cartagenacorp.lm_issues.mapper.IssueRelationMapper;
 import com.cartagenacorp.lm_issues.repository.IssueRelationRepository;
 import com.cartagenacorp.lm_issues.repository.IssueRepository;
 import com.cartagenacorp.lm_issues.util.JwtContextHolder;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
 import java.util.function.Function;
@@ -34,18 +33,26 @@ public class IssueRelationService {
     private final IssueMapper issueMapper;
     private final IssueRelationMapper issueRelationMapper;
     private final UserExternalService userExternalService;
-    private final AuditExternalService auditExternalService;
-    private final NotificationExternalService notificationExternalService;
+    private final AuditOutboxService auditOutboxService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final ProjectExternalService projectExternalService;
+    private final RemoteValidationService remoteValidationService;
+    private final SearchResultCache searchResultCache;
 
     public IssueRelationService(IssueRepository issueRepository, IssueRelationRepository issueRelationRepository, IssueMapper issueMapper, IssueRelationMapper issueRelationMapper,
-                                UserExternalService userExternalService, AuditExternalService auditExternalService, NotificationExternalService notificationExternalService) {
+                                UserExternalService userExternalService, AuditOutboxService auditOutboxService, NotificationDispatcher notificationDispatcher,
+                                ProjectExternalService projectExternalService, RemoteValidationService remoteValidationService,
+                                SearchResultCache searchResultCache) {
         this.issueRepository = issueRepository;
         this.issueRelationRepository = issueRelationRepository;
         this.issueMapper = issueMapper;
         this.issueRelationMapper = issueRelationMapper;
         this.userExternalService = userExternalService;
-        this.auditExternalService = auditExternalService;
-        this.notificationExternalService = notificationExternalService;
+        this.auditOutboxService = auditOutboxService;
+        this.notificationDispatcher = notificationDispatcher;
+        this.projectExternalService = projectExternalService;
+        this.remoteValidationService = remoteValidationService;
+        this.searchResultCache = searchResultCache;
     }
 
     @Transactional
@@ -64,6 +71,23 @@ public class IssueRelationService {
 
         logger.info("[IssueRelationService] [createSubtask] Usuario solicitante ID={}, Organización ID={}", userId, organizationId);
 
+        List<RemoteValidationService.RemoteCheck> checks = new ArrayList<>();
+        checks.add(new RemoteValidationService.RemoteCheck("projectParticipant",
+                () -> projectExternalService.validateProjectParticipant(parent.getProjectId(), token),
+                () -> {
+                    logger.warn("[IssueRelationService] [createSubtask] El usuario ID={} no es participante del proyecto ID={}", userId, parent.getProjectId());
+                    return new BaseException("No eres participante en este proyecto", HttpStatus.FORBIDDEN.value());
+                }));
+        if (subtask.getAssignedId() != null) {
+            checks.add(new RemoteValidationService.RemoteCheck("assigneeExists",
+                    () -> userExternalService.userExists(subtask.getAssignedId(), token),
+                    () -> {
+                        logger.warn("[IssueRelationService] [createSubtask] El usuario asignado con ID={} no existe", subtask.getAssignedId());
+                        return new BaseException("Usuario asignado no encontrado", HttpStatus.NOT_FOUND.value());
+                    }));
+        }
+        remoteValidationService.validateAll("createSubtask", checks);
+
         logger.info("[IssueRelationService] [createSubtask] Creando entidad Issue(Subtask) a partir del DTO");
         Issue subtaskEntity = issueMapper.toEntity(subtask);
         subtaskEntity.setParent(parent);
@@ -72,37 +96,29 @@ public class IssueRelationService {
         subtaskEntity.setOrganizationId(parent.getOrganizationId());
         subtaskEntity.setSprintId(null); // Las subtasks no pueden estar en un sprint
         issueRepository.save(subtaskEntity);
+        searchResultCache.invalidateProject(subtaskEntity.getProjectId());
         logger.info("[IssueRelationService] [createSubtask] Issue(Subtask) guardada ID={} para el proyecto ID={}", subtaskEntity.getId(), subtaskEntity.getProjectId());
 
         try {
-            auditExternalService.logChange(subtaskEntity.getId(), subtaskEntity.getTitle(), userId, "CREATE", "Nueva Subtask", subtaskEntity.getProjectId(), subtaskEntity, null, token);
-            logger.info("[IssueRelationService] [createSubtask] Registro de auditoría enviado correctamente para la Subtask con ID={}", subtaskEntity.getId());
-        } catch (Exception ex){
+            auditOutboxService.logChange(subtaskEntity.getId(), subtaskEntity.getTitle(), userId, "CREATE", "Nueva Subtask", subtaskEntity.getProjectId(), subtaskEntity, null, JwtContextHolder.getOrganizationId());
+            logger.info("[IssueRelationService] [createSubtask] Registro de auditoría guardado correctamente para la Subtask con ID={}", subtaskEntity.getId());
+        } catch (JsonProcessingException ex) {
             logger.error("[IssueRelationService] [createSubtask] Error al registrar auditoría para la Subtask con ID={}: {}", subtaskEntity.getId(), ex.getMessage());
         }
 
         if (subtaskEntity.getAssignedId() != null) {
             logger.info("[IssueRelationService] [createSubtask] Registrando notificación para el usuario asignado ID={}", subtaskEntity.getAssignedId());
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    try {
-                        notificationExternalService.sendNotification(
-                                subtaskEntity.getAssignedId(),
-                                "Se ha creado una nueva Subtarea a la que estás asignado: " + subtaskEntity.getTitle(),
-                                "ISSUE_ASSIGNED",
-                                Map.of(
-                                        "issueId", subtaskEntity.getId().toString(),
-                                        "projectId", subtaskEntity.getProjectId().toString()
-                                ),
-                                subtaskEntity.getProjectId(),
-                                subtaskEntity.getId()
-                        );
-                    } catch (Exception ex) {
-                        logger.error("[IssueRelationService] [createSubtask] Error al enviar notificación al usuario asignado: {}", ex.getMessage());
-                    }
-                }
-            });
+            notificationDispatcher.dispatch(
+                    subtaskEntity.getAssignedId(),
+                    "Se ha creado una nueva Subtarea a la que estás asignado: " + subtaskEntity.getTitle(),
+                    "ISSUE_ASSIGNED",
+                    Map.of(
+                            "issueId", subtaskEntity.getId().toString(),
+                            "projectId", subtaskEntity.getProjectId().toString()
+                    ),
+                    subtaskEntity.getProjectId(),
+                    subtaskEntity.getId()
+            );
         } else {
             logger.info("[IssueRelationService] [createSubtask] La Subtask no tiene usuario asignado, no se enviará notificación");
         }
@@ -8,21 +8,38 @@ import com.cartagenacorp.lm_issues.repository.specifications.IssueSpecifications
 import com.cartagenacorp.lm_issues.entity.Description;
 import com.cartagenacorp.lm_issues.entity.Issue;
 import com.cartagenacorp.lm_issues.mapper.IssueMapper;
+import com.cartagenacorp.lm_issues.repository.IssueBoardRow;
+import com.cartagenacorp.lm_issues.repository.IssueBulkUpdateRepository;
+import com.cartagenacorp.lm_issues.repository.IssueFieldChange;
+import com.cartagenacorp.lm_issues.repository.IssueListReadRepository;
+import com.cartagenacorp.lm_issues.repository.IssueListRow;
 import com.cartagenacorp.lm_issues.repository.IssueRepository;
+import com.cartagenacorp.lm_issues.repository.IssueSearchFilter;
+import com.cartagenacorp.lm_issues.repository.IssueSearchHit;
+import com.cartagenacorp.lm_issues.repository.IssueSearchRepository;
+import com.cartagenacorp.lm_issues.repository.IssueSprintChange;
+import com.cartagenacorp.lm_issues.util.ConstantUtil;
 import com.cartagenacorp.lm_issues.util.JwtContextHolder;
+import com.cartagenacorp.lm_issues.util.SearchCursor;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
@@ -38,22 +55,45 @@ public class IssueService {
     private final IssueMapper issueMapper;
     private final UserExternalService userExternalService;
     private final ProjectExternalService projectExternalService;
-    private final AuditExternalService auditExternalService;
-    private final NotificationExternalService notificationExternalService;
+    private final AuditOutboxService auditOutboxService;
+    private final NotificationDispatcher notificationDispatcher;
     private final FileStorageService fileStorageService;
     private final SprintExternalService sprintExternalService;
+    private final RemoteValidationService remoteValidationService;
+    private final IssueSearchRepository issueSearchRepository;
+    private final SearchCountCache searchCountCache;
+    private final IssueListReadRepository issueListReadRepository;
+    private final SearchResultCache searchResultCache;
+    private final IssueBulkUpdateRepository issueBulkUpdateRepository;
+    private final IssueImportService issueImportService;
+
+    @Value("${board.max-per-column:100}")
+    private int boardMaxPerColumn;
+
+    @Value("${bulk-update.max-issues:1000}")
+    private int bulkUpdateMaxIssues;
 
     public IssueService(IssueRepository issueRepository, DescriptionRepository descriptionRepository, IssueMapper issueMapper, UserExternalService userExternalService, ProjectExternalService projectExternalService,
-                        AuditExternalService auditExternalService, NotificationExternalService notificationExternalService, FileStorageService fileStorageService, SprintExternalService sprintExternalService) {
+                        AuditOutboxService auditOutboxService, NotificationDispatcher notificationDispatcher, FileStorageService fileStorageService, SprintExternalService sprintExternalService,
+                        RemoteValidationService remoteValidationService, IssueSearchRepository issueSearchRepository, SearchCountCache searchCountCache,
+                        IssueListReadRepository issueListReadRepository, SearchResultCache searchResultCache,
+                        IssueBulkUpdateRepository issueBulkUpdateRepository, IssueImportService issueImportService) {
         this.issueRepository = issueRepository;
         this.descriptionRepository = descriptionRepository;
         this.issueMapper = issueMapper;
         this.userExternalService = userExternalService;
         this.projectExternalService = projectExternalService;
-        this.auditExternalService = auditExternalService;
-        this.notificationExternalService = notificationExternalService;
+        this.auditOutboxService = auditOutboxService;
+        this.notificationDispatcher = notificationDispatcher;
         this.fileStorageService = fileStorageService;
         this.sprintExternalService = sprintExternalService;
+        this.remoteValidationService = remoteValidationService;
+        this.issueSearchRepository = issueSearchRepository;
+        this.searchCountCache = searchCountCache;
+        this.issueListReadRepository = issueListReadRepository;
+        this.searchResultCache = searchResultCache;
+        this.issueBulkUpdateRepository = issueBulkUpdateRepository;
+        this.issueImportService = issueImportService;
     }
 
     public void addFilesToDescription(UUID issueId, UUID descriptionId, MultipartFile[] files) {
@@ -82,6 +122,7 @@ public class IssueService {
 
         logger.info("[IssueService] [addFilesToDescription] Guardando {} archivo(s) en la descripción con ID={}", files.length, descriptionId);
         fileStorageService.saveFiles(description, files);
+        searchResultCache.invalidateProject(description.getIssue().getProjectId());
         logger.info("[IssueService] [addFilesToDescription] Archivos adjuntados exitosamente a la descripción ID={} del issue ID={}", descriptionId, issueId);
     }
 
@@ -100,21 +141,33 @@ public class IssueService {
 
         logger.info("[IssueService] [createIssue] Usuario solicitante ID={}, Organización ID={}", userId, organizationId);
 
-        if (!projectExternalService.validateProjectExists(issueDtoRequest.getProjectId(), token)) {
-            logger.warn("[IssueService] [createIssue] El proyecto con ID={} no existe", issueDtoRequest.getProjectId());
+        if (issueDtoRequest.getProjectId() == null) {
+            logger.warn("[IssueService] [createIssue] La solicitud no contiene el ID del proyecto");
             throw new BaseException("El ID del proyecto proporcionado no es válido", HttpStatus.NOT_FOUND.value());
         }
 
-        if (!projectExternalService.validateProjectParticipant(issueDtoRequest.getProjectId(), token)) {
-            logger.warn("[IssueService] [createIssue] El usuario ID={} no es participante del proyecto ID={}", userId, issueDtoRequest.getProjectId());
-            throw new BaseException("No eres participante en este proyecto", HttpStatus.FORBIDDEN.value());
-        }
-
-        if (issueDtoRequest.getAssignedId() != null &&
-                !userExternalService.userExists(issueDtoRequest.getAssignedId(), token)) {
-            logger.warn("[IssueService] [createIssue] El usuario asignado con ID={} no existe", issueDtoRequest.getAssignedId());
-            throw new BaseException("Usuario asignado no encontrado", HttpStatus.NOT_FOUND.value());
+        List<RemoteValidationService.RemoteCheck> checks = new ArrayList<>();
+        checks.add(new RemoteValidationService.RemoteCheck("projectExists",
+                () -> projectExternalService.validateProjectExists(issueDtoRequest.getProjectId(), token),
+                () -> {
+                    logger.warn("[IssueService] [createIssue] El proyecto con ID={} no existe", issueDtoRequest.getProjectId());
+                    return new BaseException("El ID del proyecto proporcionado no es válido", HttpStatus.NOT_FOUND.value());
+                }));
+        checks.add(new RemoteValidationService.RemoteCheck("projectParticipant",
+                () -> projectExternalService.validateProjectParticipant(issueDtoRequest.getProjectId(), token),
+                () -> {
+                    logger.warn("[IssueService] [createIssue] El usuario ID={} no es participante del proyecto ID={}", userId, issueDtoRequest.getProjectId());
+                    return new BaseException("No eres participante en este proyecto", HttpStatus.FORBIDDEN.value());
+                }));
+        if (issueDtoRequest.getAssignedId() != null) {
+            checks.add(new RemoteValidationService.RemoteCheck("assigneeExists",
+                    () -> userExternalService.userExists(issueDtoRequest.getAssignedId(), token),
+                    () -> {
+                        logger.warn("[IssueService] [createIssue] El usuario asignado con ID={} no existe", issueDtoRequest.getAssignedId());
+                        return new BaseException("Usuario asignado no encontrado", HttpStatus.NOT_FOUND.value());
+                    }));
         }
+        remoteValidationService.validateAll("createIssue", checks);
 
         logger.info("[IssueService] [createIssue] Creando entidad Issue a partir del DTO");
         Issue issue = issueMapper.toEntity(issueDtoRequest);
@@ -125,36 +178,28 @@ public class IssueService {
         logger.info("[IssueService] [createIssue] Enlazando descripciones y guardando Issue en base de datos");
         issueMapper.linkDescriptions(issue);
         Issue savedIssue = issueRepository.save(issue);
+        searchResultCache.invalidateProject(savedIssue.getProjectId());
 
         try {
-            auditExternalService.logChange(savedIssue.getId(), savedIssue.getTitle(), userId, "CREATE", "Nueva Issue", savedIssue.getProjectId(), savedIssue, null, token);
-            logger.info("[IssueService] [createIssue] Registro de auditoría enviado correctamente para la Issue con ID={}", savedIssue.getId());
-        } catch (Exception ex){
+            auditOutboxService.logChange(savedIssue.getId(), savedIssue.getTitle(), userId, "CREATE", "Nueva Issue", savedIssue.getProjectId(), savedIssue, null, JwtContextHolder.getOrganizationId());
+            logger.info("[IssueService] [createIssue] Registro de auditoría guardado correctamente para la Issue con ID={}", savedIssue.getId());
+        } catch (JsonProcessingException ex) {
             logger.error("[IssueService] [createIssue] Error al registrar auditoría para la Issue con ID={}: {}", savedIssue.getId(), ex.getMessage());
         }
 
         if (savedIssue.getAssignedId() != null) {
             logger.info("[IssueService] [createIssue] Registrando notificación para el usuario asignado ID={}", savedIssue.getAssignedId());
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    try {
-                        notificationExternalService.sendNotification(
-                                savedIssue.getAssignedId(),
-                                "Se ha creado una nueva Issue a la que estás asignado: " + savedIssue.getTitle(),
-                                "ISSUE_ASSIGNED",
-                                Map.of(
-                                        "issueId", savedIssue.getId().toString(),
-                                        "projectId", savedIssue.getProjectId().toString()
-                                ),
-                                savedIssue.getProjectId(),
-                                savedIssue.getId()
-                        );
-                    } catch (Exception ex) {
-                        logger.error("[IssueService] [createIssue] Error al enviar notificación al usuario asignado: {}", ex.getMessage());
-                    }
-                }
-            });
+            notificationDispatcher.dispatch(
+                    savedIssue.getAssignedId(),
+                    "Se ha creado una nueva Issue a la que estás asignado: " + savedIssue.getTitle(),
+                    "ISSUE_ASSIGNED",
+                    Map.of(
+                            "issueId", savedIssue.getId().toString(),
+                            "projectId", savedIssue.getProjectId().toString()
+                    ),
+                    savedIssue.getProjectId(),
+                    savedIssue.getId()
+            );
         } else {
             logger.info("[IssueService] [createIssue] La Issue no tiene usuario asignado, no se enviará notificación");
         }
@@ -162,7 +207,10 @@ public class IssueService {
         return getIssueDtoResponse(issue);
     }
 
-    @Transactional
+    /**
+     * Crea todas las issues o ninguna: usa las inserciones por lotes JDBC de IssueImportService en una
+     * sola transacción. Las importaciones grandes que pueden quedar parciales van por /import o /import/jobs.
+     */
     public List<IssueDTO> createIssuesBatch(List<IssueDTO> issues) {
         logger.info("[IssueService] [createIssuesBatch] Iniciando creación en lote de Issues");
 
@@ -171,35 +219,16 @@ public class IssueService {
             throw new BaseException("La lista de Issues no puede estar vacía", HttpStatus.BAD_REQUEST.value());
         }
 
-        UUID userId = JwtContextHolder.getUserId();
-        UUID organizationId = JwtContextHolder.getOrganizationId();
-
-        logger.info("[IssueService] [createIssuesBatch] Usuario solicitante ID={}, Organización ID={}, Cantidad de Issues={}", userId, organizationId, issues.size());
-
-        List<Issue> entities = new ArrayList<>();
-
-
-        for (IssueDTO issueDTO : issues) {
-            issueDTO.setReporterId(userId);
-            issueDTO.setOrganizationId(organizationId);
-           // if (issueDTO.getDescriptionsDTO() == null) { issueDTO.setDescriptionsDTO(new ArrayList<>()); }
-            Issue issue = issueMapper.toEntityImport(issueDTO);
-            issue.getDescriptions().forEach(description -> description.setIssue(issue));
-            entities.add(issue);
+        logger.info("[IssueService] [createIssuesBatch] Usuario solicitante ID={}, Organización ID={}, Cantidad de Issues={}",
+                JwtContextHolder.getUserId(), JwtContextHolder.getOrganizationId(), issues.size());
 
-            logger.debug("[IssueService] [createIssuesBatch] Issue preparada para guardar: título='{}', proyecto ID={}", issue.getTitle(), issue.getProjectId());
-        }
-
-        logger.info("[IssueService] [createIssuesBatch] Guardando {} Issues en base de datos...", entities.size());
-        List<Issue> saved;
+        List<IssueDTO> result;
         try {
-            saved = issueRepository.saveAll(entities);
-            logger.info("[IssueService] [createIssuesBatch] Se guardaron correctamente {} Issues", saved.size());
-        } catch (Exception e) {
+            result = issueImportService.importAtomically(issues);
+        } catch (DataAccessException | TransactionException e) {
             logger.error("[IssueService] [createIssuesBatch] Error al guardar Issues en base de datos: {}", e.getMessage(), e);
             throw new BaseException("Error al guardar las Issues en la base de datos", HttpStatus.INTERNAL_SERVER_ERROR.value());
         }
-        List<IssueDTO> result = saved.stream().map(issueMapper::toDtoImport).toList();
         logger.info("[IssueService] [createIssuesBatch] Creación en lote de Issues completada exitosamente, Issues creadas={}", result.size());
 
         return result;
@@ -208,7 +237,8 @@ public class IssueService {
     @Transactional(readOnly = true)
     public PageResponseDTO<IssueDtoResponse> findIssues(String keyword, UUID projectId, UUID sprintId, Long status,
                                                         Long priority, Long type, List<UUID> assignedIds,
-                                                        Boolean isParent, Pageable pageable) {
+                                                        Boolean isParent, SearchMode searchMode, boolean highlight,
+                                                        CountMode countMode, Pageable pageable) {
 
         logger.info("[IssueService] [findIssues] Iniciando búsqueda de Issues con filtros. Proyecto ID={}, Sprint ID={}, Estado ID={}, Prioridad ID={}, Tipo ID={}",
                 projectId, sprintId, status, priority, type);
@@ -218,32 +248,84 @@ public class IssueService {
             throw new BaseException("No eres participante en este proyecto", HttpStatus.FORBIDDEN.value());
         }
 
-        logger.debug("[IssueService] [findIssues] Construyendo especificación de búsqueda...");
+        IssueSearchFilter filter = new IssueSearchFilter(projectId, sprintId, status, priority, type, assignedIds, isParent);
+        return searchResultCache.get(searchMode, keyword, filter, highlight, countMode, pageable,
+                () -> searchIssues(keyword, filter, searchMode, highlight, countMode, pageable));
+    }
+
+    private PageResponseDTO<IssueDtoResponse> searchIssues(String keyword, IssueSearchFilter filter, SearchMode searchMode,
+                                                           boolean highlight, CountMode countMode, Pageable pageable) {
+        boolean nativeSearch = searchMode != SearchMode.LIKE && keyword != null && !keyword.isBlank();
+        String searchKeyword = keyword != null ? keyword.trim() : null;
+
+        logger.debug("[IssueService] [searchIssues] Construyendo especificación de búsqueda...");
         Specification<Issue> spec = Specification
                 .where(IssueSpecifications.searchByKeyword(keyword))
-                .and(IssueSpecifications.hasProject(projectId))
-                .and(IssueSpecifications.hasSprint(sprintId))
-                .and(IssueSpecifications.hasStatus(status))
-                .and(IssueSpecifications.hasPriority(priority))
-                .and(IssueSpecifications.hasType(type))
-                .and(IssueSpecifications.hasAssignedIn(assignedIds))
-                .and(IssueSpecifications.hasParentCondition(isParent));
-
-        Page<Issue> issues;
+                .and(IssueSpecifications.hasProject(filter.projectId()))
+                .and(IssueSpecifications.hasSprint(filter.sprintId()))
+                .and(IssueSpecifications.hasStatus(filter.status()))
+                .and(IssueSpecifications.hasPriority(filter.priority()))
+                .and(IssueSpecifications.hasType(filter.type()))
+                .and(IssueSpecifications.hasAssignedIn(filter.assignedIds()))
+                .and(IssueSpecifications.hasParentCondition(filter.isParent()));
+
+        Slice<UUID> issueIds;
+        long total = -1;
+        Map<UUID, String> snippets = Collections.emptyMap();
         try {
-            issues = issueRepository.findAll(spec, pageable);
-            logger.info("[IssueService] [findIssues] Se encontraron {} Issues en la búsqueda", issues.getTotalElements());
+            if (nativeSearch) {
+                Slice<IssueSearchHit> hits;
+                if (countMode == CountMode.EXACT) {
+                    Page<IssueSearchHit> page = issueSearchRepository.search(searchMode, searchKeyword, filter, pageable, highlight);
+                    total = page.getTotalElements();
+                    hits = page;
+                } else {
+                    hits = issueSearchRepository.searchSlice(searchMode, searchKeyword, filter, pageable, highlight);
+                }
+                issueIds = hits.map(IssueSearchHit::id);
+                if (highlight) {
+                    snippets = hits.getContent().stream()
+                            .filter(hit -> hit.snippet() != null)
+                            .collect(Collectors.toMap(IssueSearchHit::id, IssueSearchHit::snippet));
+                }
+            } else if (countMode == CountMode.EXACT) {
+                issueIds = issueRepository.findIdSlice(spec, pageable);
+                // Igual que findAll(spec, pageable): la última página no necesita la consulta de conteo
+                total = !issueIds.hasNext() && (issueIds.hasContent() || pageable.getOffset() == 0)
+                        ? pageable.getOffset() + issueIds.getNumberOfElements()
+                        : issueRepository.count(spec);
+            } else {
+                issueIds = issueRepository.findIdSlice(spec, pageable);
+            }
+
+            if (countMode == CountMode.ESTIMATED) {
+                SearchMode countSearchMode = nativeSearch ? searchMode : SearchMode.LIKE;
+                total = searchCountCache.get(countSearchMode, searchKeyword, filter, () -> nativeSearch
+                        ? issueSearchRepository.count(searchMode, searchKeyword, filter)
+                        : issueRepository.count(spec));
+            }
+            logger.info("[IssueService] [searchIssues] Búsqueda {} completada con {} Issues en la página, total={} (modo de conteo {})",
+                    searchMode, issueIds.getNumberOfElements(), total, countMode);
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
-            logger.error("[IssueService] [findIssues] Error al ejecutar la consulta de Issues: {}", e.getMessage(), e);
+            logger.error("[IssueService] [searchIssues] Error al ejecutar la consulta de Issues: {}", e.getMessage(), e);
             throw new BaseException("Error al obtener las Issues", HttpStatus.INTERNAL_SERVER_ERROR.value());
         }
 
-        Set<UUID> userIds = new HashSet<>();
-        issues.getContent().forEach(issue -> {
-            if (issue.getAssignedId() != null) userIds.add(issue.getAssignedId());
-            if (issue.getReporterId() != null) userIds.add(issue.getReporterId());
-        });
-        logger.debug("[IssueService] [findIssues] Se recolectaron {} IDs de usuarios relacionados con las Issues", userIds.size());
+        List<IssueDtoResponse> content = getIssueListResponses(issueIds.getContent());
+        for (IssueDtoResponse response : content) {
+            response.setSnippet(snippets.get(response.getId()));
+        }
+        Slice<IssueDtoResponse> mappedPage = new SliceImpl<>(content, issueIds.getPageable(), issueIds.hasNext());
+        logger.info("[IssueService] [searchIssues] Mapeo de Issues completado. Hay página siguiente: {}", mappedPage.hasNext());
+
+        logger.info("[IssueService] [searchIssues] Finalizando búsqueda de Issues correctamente");
+        return new PageResponseDTO<>(mappedPage, total, countMode == CountMode.ESTIMATED);
+    }
+
+    private Map<UUID, UserBasicDataDto> getUserMap(Set<UUID> userIds) {
+        logger.debug("[IssueService] [getUserMap] Se recolectaron {} IDs de usuarios relacionados con las Issues", userIds.size());
 
         List<UserBasicDataDto> usersOpt;
         try {
@@ -251,20 +333,192 @@ public class IssueService {
                     JwtContextHolder.getToken(),
                     userIds.stream().map(UUID::toString).collect(Collectors.toList())
             );
-            logger.info("[IssueService] [findIssues] Datos de usuarios obtenidos exitosamente ({} usuarios)", usersOpt.size());
+            logger.info("[IssueService] [getUserMap] Datos de usuarios obtenidos exitosamente ({} usuarios)", usersOpt.size());
         } catch (Exception e) {
-            logger.warn("[IssueService] [findIssues] No se pudieron obtener datos de usuarios: {}", e.getMessage());
+            logger.warn("[IssueService] [getUserMap] No se pudieron obtener datos de usuarios: {}", e.getMessage());
             usersOpt = Collections.emptyList();
         }
 
-        Map<UUID, UserBasicDataDto> userMap = usersOpt.stream()
-                .collect(Collectors.toMap(UserBasicDataDto::getId, Function.identity()));
+        return usersOpt.stream()
+                .collect(Collectors.toMap(UserBasicDataDto::getId, Function.identity(), (first, second) -> first));
+    }
+
+    /**
+     * Arma las respuestas de lista a partir de proyecciones: una consulta para las columnas de las
+     * issues, otra para descripciones y adjuntos, y una sola llamada a lm-oauth para los usuarios.
+     */
+    private List<IssueDtoResponse> getIssueListResponses(List<UUID> ids) {
+        List<IssueListRow> rows = issueListReadRepository.findRows(ids);
+        Map<UUID, List<DescriptionDtoResponse>> descriptions = issueListReadRepository.findDescriptions(ids);
+
+        Set<UUID> userIds = new HashSet<>();
+        rows.forEach(row -> {
+            if (row.assignedId() != null) userIds.add(row.assignedId());
+            if (row.reporterId() != null) userIds.add(row.reporterId());
+        });
+        Map<UUID, UserBasicDataDto> userMap = getUserMap(userIds);
+
+        return rows.stream().map(row -> {
+            IssueDtoResponse response = new IssueDtoResponse();
+            response.setId(row.id());
+            response.setTitle(row.title());
+            response.setDescriptions(descriptions.getOrDefault(row.id(), new ArrayList<>()));
+            response.setEstimatedTime(row.estimatedTime());
+            response.setProjectId(row.projectId());
+            response.setSprintId(row.sprintId());
+            response.setPriority(row.priority());
+            response.setStatus(row.status());
+            response.setType(row.type());
+            response.setCreatedAt(row.createdAt());
+            response.setUpdatedAt(row.updatedAt());
+            response.setLastStatusUpdate(row.lastStatusUpdate());
+            response.setStartDate(row.startDate());
+            response.setEndDate(row.endDate());
+            response.setRealDate(row.realDate());
+            response.setOrganizationId(row.organizationId());
+            response.setReporterId(userMap.getOrDefault(row.reporterId(),
+                    new UserBasicDataDto(row.reporterId(), null, null, null, null, null)));
+            response.setAssignedId(userMap.getOrDefault(row.assignedId(),
+                    new UserBasicDataDto(row.assignedId(), null, null, null, null, null)));
+            if (row.parentId() != null) {
+                response.setParent(new ParentInfoDto(row.parentId(), row.parentTitle()));
+            }
+            return response;
+        }).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public BoardDTO getBoard(UUID projectId, UUID sprintId, Long priority, Long type, List<UUID> assignedIds,
+                             Boolean isParent, int limit) {
+        logger.info("[IssueService] [getBoard] Consultando tablero del proyecto ID={}, Sprint ID={}, límite por columna={}",
+                projectId, sprintId, limit);
+
+        if (limit < 1 || limit > boardMaxPerColumn) {
+            logger.warn("[IssueService] [getBoard] Límite por columna fuera de rango: {}", limit);
+            throw new BaseException(ConstantUtil.INVALID_INPUT, HttpStatus.BAD_REQUEST.value());
+        }
+
+        if (!projectExternalService.validateProjectParticipant(projectId, JwtContextHolder.getToken())) {
+            logger.warn("[IssueService] [getBoard] El usuario no es participante del proyecto con ID={}", projectId);
+            throw new BaseException("No eres participante en este proyecto", HttpStatus.FORBIDDEN.value());
+        }
+
+        IssueSearchFilter filter = new IssueSearchFilter(projectId, sprintId, null, priority, type, assignedIds, isParent);
+        List<IssueBoardRow> rows;
+        try {
+            rows = issueSearchRepository.board(filter, limit);
+        } catch (Exception e) {
+            logger.error("[IssueService] [getBoard] Error al consultar el tablero: {}", e.getMessage(), e);
+            throw new BaseException("Error al obtener las Issues", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+
+        // Una sola hidratación (columnas, descripciones y usuarios) para todas las columnas
+        Map<UUID, IssueDtoResponse> responses = getIssueListResponses(rows.stream().map(IssueBoardRow::id).toList()).stream()
+                .collect(Collectors.toMap(IssueDtoResponse::getId, Function.identity()));
+
+        Map<Long, BoardColumnDTO> columns = new LinkedHashMap<>();
+        for (IssueBoardRow row : rows) {
+            BoardColumnDTO column = columns.computeIfAbsent(row.status(),
+                    status -> new BoardColumnDTO(status, row.columnTotal(), new ArrayList<>()));
+            IssueDtoResponse response = responses.get(row.id());
+            if (response != null) {
+                column.getIssues().add(response);
+            }
+        }
+        logger.info("[IssueService] [getBoard] Tablero del proyecto ID={} consultado con {} columnas y {} Issues", projectId, columns.size(), rows.size());
+        return new BoardDTO(limit, new ArrayList<>(columns.values()));
+    }
+
+    @Transactional(readOnly = true)
+    public IssueFacetsDTO findIssueFacets(String keyword, UUID projectId, UUID sprintId, Long status, Long priority, Long type,
+                                          List<UUID> assignedIds, Boolean isParent, SearchMode searchMode) {
+        logger.info("[IssueService] [findIssueFacets] Calculando conteos por filtro. Proyecto ID={}, Sprint ID={}, modo={}",
+                projectId, sprintId, searchMode);
+
+        if (!projectExternalService.validateProjectParticipant(projectId, JwtContextHolder.getToken())) {
+            logger.warn("[IssueService] [findIssueFacets] El usuario no es participante del proyecto con ID={}", projectId);
+            throw new BaseException("No eres participante en este proyecto", HttpStatus.FORBIDDEN.value());
+        }
+
+        IssueSearchFilter filter = new IssueSearchFilter(projectId, sprintId, status, priority, type, assignedIds, isParent);
+        try {
+            IssueFacetsDTO facets = issueSearchRepository.facets(searchMode, keyword, filter);
+            logger.info("[IssueService] [findIssueFacets] Conteos calculados sobre {} Issues", facets.getTotal());
+            return facets;
+        } catch (Exception e) {
+            logger.error("[IssueService] [findIssueFacets] Error al calcular los conteos: {}", e.getMessage(), e);
+            throw new BaseException("Error al obtener las Issues", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<IssueDtoResponse> findIssuesByCursor(String keyword, UUID projectId, UUID sprintId, Long status,
+                                                                      Long priority, Long type, List<UUID> assignedIds, Boolean isParent,
+                                                                      String sortBy, Sort.Direction direction, int size, String cursor) {
+        logger.info("[IssueService] [findIssuesByCursor] Iniciando búsqueda por cursor. Proyecto ID={}, orden={} {}, tamaño={}",
+                projectId, sortBy, direction, size);
+
+        if (!IssueSearchRepository.SEEK_COLUMNS.containsKey(sortBy)) {
+            throw new BaseException(ConstantUtil.INVALID_CURSOR_SORT, HttpStatus.BAD_REQUEST.value());
+        }
+        if (size < 1) {
+            throw new BaseException(ConstantUtil.INVALID_INPUT, HttpStatus.BAD_REQUEST.value());
+        }
+
+        if (!projectExternalService.validateProjectParticipant(projectId, JwtContextHolder.getToken())) {
+            logger.warn("[IssueService] [findIssuesByCursor] El usuario no es participante del proyecto con ID={}", projectId);
+            throw new BaseException("No eres participante en este proyecto", HttpStatus.FORBIDDEN.value());
+        }
 
-        Page<IssueDtoResponse> mappedPage = issues.map(issue -> getIssueDtoResponse(userMap, issue));
-        logger.info("[IssueService] [findIssues] Mapeo de Issues completado. Total de páginas devueltas: {}", mappedPage.getTotalPages());
+        SearchCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = SearchCursor.decode(cursor);
+            if (!after.matches(sortBy, direction)) {
+                throw new BaseException(ConstantUtil.INVALID_CURSOR, HttpStatus.BAD_REQUEST.value());
+            }
+        }
+
+        IssueSearchFilter filter = new IssueSearchFilter(projectId, sprintId, status, priority, type, assignedIds, isParent);
+        List<UUID> ids;
+        try {
+            ids = issueSearchRepository.seek(keyword, filter, sortBy, direction.isAscending(),
+                    after != null ? cursorValue(sortBy, after.value()) : null, after != null ? after.id() : null, size + 1);
+        } catch (Exception e) {
+            logger.error("[IssueService] [findIssuesByCursor] Error al ejecutar la consulta por cursor: {}", e.getMessage(), e);
+            throw new BaseException("Error al obtener las Issues", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+
+        boolean hasNext = ids.size() > size;
+        List<IssueDtoResponse> content = getIssueListResponses(hasNext ? ids.subList(0, size) : ids);
+        String nextCursor = null;
+        if (hasNext && !content.isEmpty()) {
+            IssueDtoResponse last = content.get(content.size() - 1);
+            nextCursor = new SearchCursor(sortBy, direction, last.getId(), cursorValue(sortBy, last)).encode();
+        }
+
+        logger.info("[IssueService] [findIssuesByCursor] Búsqueda por cursor completada con {} Issues, hay más resultados: {}", content.size(), hasNext);
+        return new CursorPageResponseDTO<>(content, content.size(), hasNext, nextCursor);
+    }
+
+    private static String cursorValue(String sortBy, IssueDtoResponse issue) {
+        return switch (sortBy) {
+            case "createdAt" -> issue.getCreatedAt().toString();
+            case "updatedAt" -> issue.getUpdatedAt().toString();
+            case "title" -> issue.getTitle();
+            default -> null;
+        };
+    }
 
-        logger.info("[IssueService] [findIssues] Finalizando búsqueda de Issues correctamente");
-        return new PageResponseDTO<>(mappedPage);
+    private static Object cursorValue(String sortBy, String value) {
+        try {
+            return switch (sortBy) {
+                case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+                case "title" -> value;
+                default -> null;
+            };
+        } catch (DateTimeParseException e) {
+            throw new BaseException(ConstantUtil.INVALID_CURSOR, HttpStatus.BAD_REQUEST.value());
+        }
     }
 
     @Transactional(readOnly = true)
@@ -297,7 +551,6 @@ public class IssueService {
             throw new BaseException("La Issue no puede ser nula", HttpStatus.BAD_REQUEST.value());
         }
 
-        String token = JwtContextHolder.getToken();
         UUID userId = JwtContextHolder.getUserId();
         UUID organizationId = JwtContextHolder.getOrganizationId();
 
@@ -444,6 +697,8 @@ public class IssueService {
         }
 
         Issue savedIssue = issueRepository.save(issue);
+        searchResultCache.invalidateProject(originalIssue.getProjectId());
+        searchResultCache.invalidateProject(savedIssue.getProjectId());
         logger.info("[IssueService] [updateIssue] Issue con ID={} actualizada correctamente", savedIssue.getId());
 
         if (!changedFields.isEmpty()) {
@@ -457,9 +712,9 @@ public class IssueService {
                 } else {
                     message = "Issue editada ->  ";
                 }
-                auditExternalService.logChange(savedIssue.getId(), savedIssue.getTitle(), userId, "UPDATE", message + auditDesc, savedIssue.getProjectId(), originalIssue, savedIssue, token);
-                logger.info("[IssueService] [updateIssue] Registro de auditoría enviado correctamente para la Issue con ID={}", savedIssue.getId());
-            } catch (Exception e) {
+                auditOutboxService.logChange(savedIssue.getId(), savedIssue.getTitle(), userId, "UPDATE", message + auditDesc, savedIssue.getProjectId(), originalIssue, savedIssue, JwtContextHolder.getOrganizationId());
+                logger.info("[IssueService] [updateIssue] Registro de auditoría guardado correctamente para la Issue con ID={}", savedIssue.getId());
+            } catch (JsonProcessingException e) {
                 logger.error("[IssueService] [updateIssue] Error al registrar auditoría: {}", e.getMessage());
             }
 
@@ -471,7 +726,7 @@ public class IssueService {
                     message = "Se ha actualizado una Issue a la que estás asignado: " + savedIssue.getTitle();
                 }
                 try {
-                    notificationExternalService.sendNotification(
+                    notificationDispatcher.dispatch(
                             savedIssue.getAssignedId(),
                             message,
                             "ISSUE_UPDATED",
@@ -482,7 +737,7 @@ public class IssueService {
                             savedIssue.getProjectId(),
                             savedIssue.getId()
                     );
-                    logger.info("[IssueService] [updateIssue] Notificación enviada al usuario asignado con ID={}", savedIssue.getAssignedId());
+                    logger.info("[IssueService] [updateIssue] Notificación encolada para el usuario asignado con ID={}", savedIssue.getAssignedId());
                 } catch (Exception e) {
                     logger.error("[IssueService] [updateIssue] Error al enviar notificación al usuario asignado: {}", e.getMessage());
                 }
@@ -493,11 +748,96 @@ public class IssueService {
         return getIssueDtoResponse(savedIssue);
     }
 
+    /**
+     * Aplica status, priority o type a varias issues con un solo UPDATE. La participación se valida
+     * una vez por proyecto y la auditoría se registra en un solo lote.
+     */
+    @Transactional
+    public BulkUpdateResultDTO bulkUpdateIssues(BulkUpdateRequest request) {
+        if (request == null || request.getIssueIds() == null || request.getIssueIds().isEmpty()) {
+            throw new BaseException("La lista de IDs de Issues no puede estar vacía", HttpStatus.BAD_REQUEST.value());
+        }
+        if (request.getStatus() == null && request.getPriority() == null && request.getType() == null) {
+            throw new BaseException("Debe indicar al menos un campo a modificar (status, priority o type)", HttpStatus.BAD_REQUEST.value());
+        }
+        Set<UUID> issueIds = new LinkedHashSet<>(request.getIssueIds());
+        if (issueIds.size() > bulkUpdateMaxIssues) {
+            throw new BaseException("No se pueden modificar más de " + bulkUpdateMaxIssues + " Issues a la vez", HttpStatus.BAD_REQUEST.value());
+        }
+        logger.info("[IssueService] [bulkUpdateIssues] Iniciando actualización masiva de {} issues. status={}, priority={}, type={}",
+                issueIds.size(), request.getStatus(), request.getPriority(), request.getType());
+
+        String token = JwtContextHolder.getToken();
+        UUID userId = JwtContextHolder.getUserId();
+        UUID organizationId = JwtContextHolder.getOrganizationId();
+
+        Map<UUID, UUID> projectByIssue = issueBulkUpdateRepository.findProjectIds(issueIds);
+        if (projectByIssue.size() != issueIds.size()) {
+            logger.warn("[IssueService] [bulkUpdateIssues] Algunas issues no fueron encontradas. Esperadas: {}, Encontradas: {}", issueIds.size(), projectByIssue.size());
+            throw new BaseException("Algunas Issues no fueron encontradas", HttpStatus.NOT_FOUND.value());
+        }
+        Set<UUID> projectIds = new HashSet<>(projectByIssue.values());
+        validateParticipantInProjects("bulkUpdateIssues", projectIds, token);
+
+        List<IssueFieldChange> changes = issueBulkUpdateRepository.updateFields(issueIds, projectIds,
+                request.getStatus(), request.getPriority(), request.getType());
+        searchResultCache.invalidateProjects(projectIds);
+        logger.info("[IssueService] [bulkUpdateIssues] {} de {} issues modificadas", changes.size(), issueIds.size());
+
+        List<AuditOutboxService.AuditChange> auditChanges = new ArrayList<>(changes.size());
+        for (IssueFieldChange change : changes) {
+            List<String> changedFields = new ArrayList<>();
+            if (!Objects.equals(change.before().status(), change.after().status())) changedFields.add("status");
+            if (!Objects.equals(change.before().priority(), change.after().priority())) changedFields.add("priority");
+            if (!Objects.equals(change.before().type(), change.after().type())) changedFields.add("type");
+            String message = change.parentId() != null ? "Subtask editada -> " : "Issue editada ->  ";
+            auditChanges.add(new AuditOutboxService.AuditChange(change.id(), change.title(), "UPDATE",
+                    message + "Updated fields: " + String.join(", ", changedFields), change.projectId(),
+                    change.before(), change.after()));
+        }
+        try {
+            auditOutboxService.logChanges(auditChanges, userId, organizationId);
+            logger.info("[IssueService] [bulkUpdateIssues] {} registros de auditoría guardados correctamente", auditChanges.size());
+        } catch (JsonProcessingException e) {
+            logger.error("[IssueService] [bulkUpdateIssues] Error al registrar auditoría: {}", e.getMessage());
+        }
+
+        for (IssueFieldChange change : changes) {
+            if (change.assignedId() == null) {
+                continue;
+            }
+            String message = change.parentId() != null
+                    ? "Se ha actualizado una Subtarea a la que estás asignado: " + change.title()
+                    : "Se ha actualizado una Issue a la que estás asignado: " + change.title();
+            try {
+                notificationDispatcher.dispatch(change.assignedId(), message, "ISSUE_UPDATED",
+                        Map.of("issueId", change.id().toString(), "projectId", change.projectId().toString()),
+                        change.projectId(), change.id());
+            } catch (Exception e) {
+                logger.error("[IssueService] [bulkUpdateIssues] Error al enviar notificación al usuario asignado: {}", e.getMessage());
+            }
+        }
+
+        return new BulkUpdateResultDTO(issueIds.size(), changes.size(), changes.stream().map(IssueFieldChange::id).toList());
+    }
+
+    private void validateParticipantInProjects(String operation, Set<UUID> projectIds, String token) {
+        List<RemoteValidationService.RemoteCheck> checks = new ArrayList<>();
+        for (UUID projectId : projectIds) {
+            checks.add(new RemoteValidationService.RemoteCheck("projectParticipant",
+                    () -> projectExternalService.validateProjectParticipant(projectId, token),
+                    () -> {
+                        logger.warn("[IssueService] [{}] El usuario no es participante del proyecto con ID={}", operation, projectId);
+                        return new BaseException("No eres participante en este proyecto", HttpStatus.FORBIDDEN.value());
+                    }));
+        }
+        remoteValidationService.validateAll(operation, checks);
+    }
+
     @Transactional
     public void deleteIssue(UUID id) {
         logger.info("[IssueService] [deleteIssue] Iniciando eliminación de issue con ID={}", id);
 
-        String token = JwtContextHolder.getToken();
         UUID userId = JwtContextHolder.getUserId();
         UUID organizationId = JwtContextHolder.getOrganizationId();
 
@@ -515,6 +855,7 @@ public class IssueService {
         }
 
         issueRepository.delete(issue);
+        searchResultCache.invalidateProject(issue.getProjectId());
         logger.info("[IssueService] [deleteIssue] Issue con ID={} eliminada correctamente", id);
 
         try {
@@ -524,9 +865,9 @@ public class IssueService {
             } else {
                 message = "Issue eliminada";
             }
-            auditExternalService.logChange(issue.getId(), issue.getTitle(), userId, "DELETE", message, issue.getProjectId(), issue, null, token);
-            logger.info("[IssueService] [deleteIssue] Registro de auditoría enviado correctamente para la Issue con ID={}", id);
-        } catch (Exception e) {
+            auditOutboxService.logChange(issue.getId(), issue.getTitle(), userId, "DELETE", message, issue.getProjectId(), issue, null, JwtContextHolder.getOrganizationId());
+            logger.info("[IssueService] [deleteIssue] Registro de auditoría guardado correctamente para la Issue con ID={}", id);
+        } catch (JsonProcessingException e) {
             logger.error("[IssueService] [deleteIssue] Error al registrar auditoría: {}", e.getMessage());
         }
 
@@ -567,6 +908,7 @@ public class IssueService {
 
         logger.info("[IssueService] [deleteIssues] Eliminando {} issues de la base de datos...", issues.size());
         issueRepository.deleteAll(issues);
+        searchResultCache.invalidateProjects(projectIds);
         logger.info("[IssueService] [deleteIssues] Issues eliminadas correctamente.");
 
         try {
@@ -577,10 +919,10 @@ public class IssueService {
                 } else {
                     message = "Issue eliminada en eliminación masiva";
                 }
-                auditExternalService.logChange(issue.getId(), issue.getTitle(), userId, "DELETE", message, issue.getProjectId(), issue, null, token);
-                logger.debug("[IssueService] [deleteIssues] Registro de auditoría enviado correctamente para la Issue con ID={}", issue.getId());
+                auditOutboxService.logChange(issue.getId(), issue.getTitle(), userId, "DELETE", message, issue.getProjectId(), issue, null, JwtContextHolder.getOrganizationId());
+                logger.debug("[IssueService] [deleteIssues] Registro de auditoría guardado correctamente para la Issue con ID={}", issue.getId());
             }
-        } catch (Exception e) {
+        } catch (JsonProcessingException e) {
             logger.error("[IssueService] [deleteIssues] Error al registrar auditoría: {}", e.getMessage());
         }
 
@@ -601,10 +943,22 @@ public class IssueService {
                 });
         Issue originalIssue = new Issue(issue);
 
-        if (!projectExternalService.validateProjectParticipant(issue.getProjectId(), token)) {
-            logger.warn("[IssueService] [deleteIssue] El usuario no es participante del proyecto con ID={}", issue.getProjectId());
-            throw new BaseException("No eres participante en este proyecto", HttpStatus.FORBIDDEN.value());
+        List<RemoteValidationService.RemoteCheck> checks = new ArrayList<>();
+        checks.add(new RemoteValidationService.RemoteCheck("projectParticipant",
+                () -> projectExternalService.validateProjectParticipant(issue.getProjectId(), token),
+                () -> {
+                    logger.warn("[IssueService] [assignUserToIssue] El usuario no es participante del proyecto con ID={}", issue.getProjectId());
+                    return new BaseException("No eres participante en este proyecto", HttpStatus.FORBIDDEN.value());
+                }));
+        if (assignedId != null) {
+            checks.add(new RemoteValidationService.RemoteCheck("assigneeExists",
+                    () -> userExternalService.userExists(assignedId, token),
+                    () -> {
+                        logger.warn("[IssueService] [assignUserToIssue] Usuario asignado no encontrado. assignedId={}", assignedId);
+                        return new BaseException("Usuario asignado no encontrado", HttpStatus.NOT_FOUND.value());
+                    }));
         }
+        remoteValidationService.validateAll("assignUserToIssue", checks);
 
         String auditDescription;
         if (assignedId == null) {
@@ -616,10 +970,6 @@ public class IssueService {
             }
             logger.info("[IssueService] [assignUserToIssue] Usuario desasignado de la issue con ID={}", issueId);
         } else {
-            if (!userExternalService.userExists(assignedId, token)) {
-                logger.warn("[IssueService] [assignUserToIssue] Usuario asignado no encontrado. assignedId={}", assignedId);
-                throw new BaseException("Usuario asignado no encontrado", HttpStatus.NOT_FOUND.value());
-            }
             issue.setAssignedId(assignedId);
             if (issue.getParent() != null) {
                 auditDescription = "Usuario asignado a la Subtask";
@@ -631,12 +981,13 @@ public class IssueService {
         }
 
         Issue savedIssue = issueRepository.save(issue);
+        searchResultCache.invalidateProject(savedIssue.getProjectId());
         logger.debug("[IssueService] [assignUserToIssue] Issue con ID={} actualizada y guardada correctamente en base de datos", savedIssue.getId());
 
         try {
-            auditExternalService.logChange(savedIssue.getId(), savedIssue.getTitle(), userId, "ASSIGN", auditDescription, savedIssue.getProjectId(), originalIssue, savedIssue, token);
-            logger.info("[IssueService] [assignUserToIssue] Registro de auditoría enviado correctamente para la Issue con ID={}", savedIssue.getId());
-        } catch (Exception e) {
+            auditOutboxService.logChange(savedIssue.getId(), savedIssue.getTitle(), userId, "ASSIGN", auditDescription, savedIssue.getProjectId(), originalIssue, savedIssue, JwtContextHolder.getOrganizationId());
+            logger.info("[IssueService] [assignUserToIssue] Registro de auditoría guardado correctamente para la Issue con ID={}", savedIssue.getId());
+        } catch (JsonProcessingException e) {
             logger.error("[IssueService] [assignUserToIssue] Error al registrar auditoría: {}", e.getMessage());
         }
 
@@ -648,7 +999,7 @@ public class IssueService {
                 message = "Se le ha asignado una Issue: " + savedIssue.getTitle();
             }
             try {
-                notificationExternalService.sendNotification(
+                notificationDispatcher.dispatch(
                         savedIssue.getAssignedId(),
                         message,
                         "ISSUE_ASSIGNED",
@@ -659,7 +1010,7 @@ public class IssueService {
                         savedIssue.getProjectId(),
                         savedIssue.getId()
                 );
-                logger.info("[IssueService] [assignUserToIssue] Notificación enviada al usuario asignado con ID={}", savedIssue.getAssignedId());
+                logger.info("[IssueService] [assignUserToIssue] Notificación encolada para el usuario asignado con ID={}", savedIssue.getAssignedId());
             } catch (Exception e) {
                 logger.error("[IssueService] [assignUserToIssue] Error al enviar notificación al usuario asignado: {}", e.getMessage());
             }
@@ -711,8 +1062,6 @@ public class IssueService {
 
     @Transactional
     public void assignIssuesToSprint(List<UUID> issueIds, UUID sprintId) {
-        logger.info("[IssueService] [assignIssuesToSprint] Iniciando asignación de {} issues al sprint con ID: {}", issueIds.size(), sprintId);
-
         if (issueIds == null || issueIds.isEmpty()) {
             throw new BaseException("La lista de IDs de Issues no puede estar vacía", HttpStatus.BAD_REQUEST.value());
         }
@@ -721,13 +1070,16 @@ public class IssueService {
             throw new BaseException("El ID del sprint no puede ser nulo", HttpStatus.BAD_REQUEST.value());
         }
 
+        logger.info("[IssueService] [assignIssuesToSprint] Iniciando asignación de {} issues al sprint con ID: {}", issueIds.size(), sprintId);
+
         String token = JwtContextHolder.getToken();
         UUID userId = JwtContextHolder.getUserId();
 
-        List<Issue> issues = issueRepository.findAllById(issueIds);
+        Set<UUID> ids = new LinkedHashSet<>(issueIds);
+        Map<UUID, UUID> projectByIssue = issueBulkUpdateRepository.findProjectIds(ids);
 
-        if (issues.size() != issueIds.size()) {
-            logger.warn("[IssueService] [assignIssuesToSprint] Algunas issues no fueron encontradas. Esperadas: {}, Encontradas: {}", issueIds.size(), issues.size());
+        if (projectByIssue.size() != ids.size()) {
+            logger.warn("[IssueService] [assignIssuesToSprint] Algunas issues no fueron encontradas. Esperadas: {}, Encontradas: {}", ids.size(), projectByIssue.size());
             throw new BaseException("Algunas Issues no fueron encontradas", HttpStatus.NOT_FOUND.value());
         }
 
@@ -738,9 +1090,7 @@ public class IssueService {
             throw new BaseException("No se pudo validar el sprint (no existe o servicio no disponible)", HttpStatus.BAD_GATEWAY.value());
         }
 
-        Set<UUID> projectIds = issues.stream()
-                .map(Issue::getProjectId)
-                .collect(Collectors.toSet());
+        Set<UUID> projectIds = new HashSet<>(projectByIssue.values());
 
         if (projectIds.size() > 1) {
             logger.warn("[IssueService] [assignIssuesToSprint] Las issues pertenecen a múltiples proyectos: {}", projectIds);
@@ -754,51 +1104,67 @@ public class IssueService {
             throw new BaseException("El sprint pertenece a otro proyecto", HttpStatus.CONFLICT.value());
         }
 
-        issues.forEach(issue -> issue.setSprintId(sprintId));
-        issueRepository.saveAll(issues);
-        logger.info("[IssueService] [assignIssuesToSprint] Issues guardadas exitosamente.");
+        List<IssueSprintChange> changes = updateSprint("assignIssuesToSprint", ids, projectIds, sprintId);
+        searchResultCache.invalidateProject(issueProjectId);
+        logger.info("[IssueService] [assignIssuesToSprint] {} issues actualizadas exitosamente.", changes.size());
 
-        for (Issue issue : issues) {
-            try {
-                auditExternalService.logChange(issue.getId(), issue.getTitle(), userId, "SPRINT_ASSIGN", String.format("Sprint asignado: %s (%s)", sprintDto.getTitle(), sprintId), issue.getProjectId(), null, issue, token);
-                logger.debug("[IssueService] [assignIssuesToSprint] Registro de auditoría enviado correctamente para la Issue con ID={}", issue.getId());
-            } catch (Exception ex) {
-                logger.error("[IssueService] [assignIssuesToSprint] Error al registrar auditoría: {}", ex.getMessage());
-            }
-        }
+        String description = String.format("Sprint asignado: %s (%s)", sprintDto.getTitle(), sprintId);
+        logSprintChanges("assignIssuesToSprint", changes, "SPRINT_ASSIGN", description, userId, JwtContextHolder.getOrganizationId());
         logger.info("[IssueService] [assignIssuesToSprint] Asignación de issues al Sprint con ID={} completada exitosamente", sprintId);
     }
 
     @Transactional
     public void removeIssuesFromSprint(List<UUID> issueIds) {
+        if (issueIds == null || issueIds.isEmpty()) {
+            throw new BaseException("La lista de IDs de Issues no puede estar vacía", HttpStatus.BAD_REQUEST.value());
+        }
+
         logger.info("[IssueService] [removeIssuesFromSprint] Iniciando eliminación de {} issues del sprint", issueIds.size());
 
-        String token = JwtContextHolder.getToken();
         UUID userId = JwtContextHolder.getUserId();
 
-        List<Issue> issues = issueRepository.findAllById(issueIds);
+        Set<UUID> ids = new LinkedHashSet<>(issueIds);
+        Map<UUID, UUID> projectByIssue = issueBulkUpdateRepository.findProjectIds(ids);
 
-        if (issues.size() != issueIds.size()) {
-            logger.warn("[IssueService] [removeIssuesFromSprint] Algunas issues no fueron encontradas. Esperadas: {}, Encontradas: {}", issueIds.size(), issues.size());
+        if (projectByIssue.size() != ids.size()) {
+            logger.warn("[IssueService] [removeIssuesFromSprint] Algunas issues no fueron encontradas. Esperadas: {}, Encontradas: {}", ids.size(), projectByIssue.size());
             throw new BaseException("Algunas Issues no fueron encontradas", HttpStatus.NOT_FOUND.value());
         }
 
-        for (Issue issue : issues) {
-            issue.setSprintId(null);
-        }
+        Set<UUID> projectIds = new HashSet<>(projectByIssue.values());
+        List<IssueSprintChange> changes = updateSprint("removeIssuesFromSprint", ids, projectIds, null);
+        searchResultCache.invalidateProjects(projectIds);
+        logger.info("[IssueService] [removeIssuesFromSprint] {} issues actualizadas correctamente.", changes.size());
 
-        issueRepository.saveAll(issues);
-        logger.info("[IssueService] [removeIssuesFromSprint] Issues actualizadas correctamente.");
+        logSprintChanges("removeIssuesFromSprint", changes, "SPRINT_REMOVE", "Sprint removido de la issue", userId, JwtContextHolder.getOrganizationId());
+        logger.info("[IssueService] [removeIssuesFromSprint] Eliminación de issues del sprint completada exitosamente");
+    }
 
-        for (Issue issue : issues) {
-            logger.debug("[IssueService] [removeIssuesFromSprint] Eliminando el sprint de la Issue con ID={}", issue.getId());
-            try {
-                auditExternalService.logChange(issue.getId(), issue.getTitle(), userId, "SPRINT_REMOVE", "Sprint removido de la issue", issue.getProjectId(), null, issue, token);
-                logger.debug("[IssueService] [removeIssuesFromSprint] Registro de auditoría enviado correctamente para la Issue con ID={}", issue.getId());
-            } catch (Exception ex) {
-                logger.error("[IssueService] [removeIssuesFromSprint] Error al registrar auditoría: {}", ex.getMessage());
-            }
+    /**
+     * Un solo UPDATE para todas las issues. Si alguna desapareció entre la validación y el UPDATE
+     * se revierte la operación completa, igual que cuando no se encuentra al validar.
+     */
+    private List<IssueSprintChange> updateSprint(String operation, Set<UUID> ids, Set<UUID> projectIds, UUID sprintId) {
+        List<IssueSprintChange> changes = issueBulkUpdateRepository.updateSprint(ids, projectIds, sprintId);
+        if (changes.size() != ids.size()) {
+            logger.warn("[IssueService] [{}] Algunas issues no fueron actualizadas. Esperadas: {}, Actualizadas: {}", operation, ids.size(), changes.size());
+            throw new BaseException("Algunas Issues no fueron encontradas", HttpStatus.NOT_FOUND.value());
+        }
+        return changes;
+    }
+
+    private void logSprintChanges(String operation, List<IssueSprintChange> changes, String action, String description,
+                                  UUID userId, UUID organizationId) {
+        List<AuditOutboxService.AuditChange> auditChanges = new ArrayList<>(changes.size());
+        for (IssueSprintChange change : changes) {
+            auditChanges.add(new AuditOutboxService.AuditChange(change.id(), change.title(), action, description,
+                    change.projectId(), change.before(), change.after()));
+        }
+        try {
+            auditOutboxService.logChanges(auditChanges, userId, organizationId);
+            logger.debug("[IssueService] [{}] {} registros de auditoría guardados correctamente", operation, auditChanges.size());
+        } catch (JsonProcessingException ex) {
+            logger.error("[IssueService] [{}] Error al registrar auditoría: {}", operation, ex.getMessage());
         }
-        logger.info("[IssueService] [removeIssuesFromSprint] Eliminación de issues del sprint completada exitosamente");
     }
-}
\ No newline at end of file
+}
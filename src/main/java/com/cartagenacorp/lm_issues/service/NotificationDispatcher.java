@@ -0,0 +1,161 @@
+package com.cartagenacorp.lm_issues.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * Envía las notificaciones fuera del hilo de la petición con un pool de workers acotado.
+ * Las notificaciones repetidas para el mismo (usuario, issue, tipo) dentro de la ventana de
+ * agrupación se combinan en una sola, conservando el último mensaje.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private final NotificationExternalService notificationExternalService;
+    private final ConcurrentHashMap<CoalescingKey, PendingNotification> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private final ThreadPoolExecutor workers;
+    private final long windowNanos;
+    private final int maxPending;
+    private final Counter enqueuedCounter;
+    private final Counter coalescedCounter;
+    private final Counter rejectedCounter;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public NotificationDispatcher(NotificationExternalService notificationExternalService, MeterRegistry meterRegistry,
+                                  @Value("${notification.dispatcher.coalesce-window:PT2S}") Duration coalesceWindow,
+                                  @Value("${notification.dispatcher.max-pending:1000}") int maxPending,
+                                  @Value("${notification.dispatcher.workers:4}") int workerCount,
+                                  @Value("${notification.dispatcher.queue-capacity:200}") int queueCapacity) {
+        this.notificationExternalService = notificationExternalService;
+        this.windowNanos = coalesceWindow.toNanos();
+        this.maxPending = maxPending;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("notification-worker-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("notification-flusher-"));
+        long period = Math.max(50L, coalesceWindow.toMillis() / 4);
+        this.flusher.scheduleWithFixedDelay(this::flushDue, period, period, TimeUnit.MILLISECONDS);
+
+        this.enqueuedCounter = meterRegistry.counter("issues.notifications", "result", "enqueued");
+        this.coalescedCounter = meterRegistry.counter("issues.notifications", "result", "coalesced");
+        this.rejectedCounter = meterRegistry.counter("issues.notifications", "result", "rejected");
+        this.sentCounter = meterRegistry.counter("issues.notifications", "result", "sent");
+        this.failedCounter = meterRegistry.counter("issues.notifications", "result", "failed");
+        Gauge.builder("issues.notifications.pending", pending, Map::size).register(meterRegistry);
+        Gauge.builder("issues.notifications.queue", workers, executor -> executor.getQueue().size()).register(meterRegistry);
+        Gauge.builder("issues.notifications.active", workers, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    /**
+     * Encola la notificación. Si hay una transacción activa se encola recién después del commit,
+     * para no notificar cambios que terminen en rollback.
+     */
+    public void dispatch(UUID userId, String message, String type, Map<String, Object> metadata, UUID projectId, UUID issueId) {
+        if (userId == null || message == null || type == null) {
+            throw new IllegalArgumentException("Faltan campos de notificación obligatorios");
+        }
+        PendingNotification notification = new PendingNotification(userId, message, type, metadata, projectId, issueId, System.nanoTime() + windowNanos);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(notification);
+                }
+            });
+        } else {
+            enqueue(notification);
+        }
+    }
+
+    private void enqueue(PendingNotification notification) {
+        CoalescingKey key = new CoalescingKey(notification.userId(), notification.issueId(), notification.type());
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            rejectedCounter.increment();
+            logger.warn("[NotificationDispatcher] [enqueue] Cola de notificaciones llena ({}), se descarta la notificación {} para el usuario ID={}", maxPending, notification.type(), notification.userId());
+            return;
+        }
+        PendingNotification merged = pending.merge(key, notification,
+                (existing, incoming) -> incoming.withDueAt(existing.dueAt()));
+        if (merged != notification) {
+            coalescedCounter.increment();
+        } else {
+            enqueuedCounter.increment();
+        }
+    }
+
+    private void flushDue() {
+        long now = System.nanoTime();
+        try {
+            Iterator<Map.Entry<CoalescingKey, PendingNotification>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<CoalescingKey, PendingNotification> entry = iterator.next();
+                if (entry.getValue().dueAt() - now <= 0 && pending.remove(entry.getKey(), entry.getValue())) {
+                    submit(entry.getValue());
+                }
+            }
+        } catch (Exception ex) {
+            logger.error("[NotificationDispatcher] [flushDue] Error al despachar notificaciones: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private void submit(PendingNotification notification) {
+        workers.execute(() -> {
+            try {
+                boolean sent = notificationExternalService.sendNotification(notification.userId(), notification.message(), notification.type(),
+                        notification.metadata(), notification.projectId(), notification.issueId());
+                (sent ? sentCounter : failedCounter).increment();
+            } catch (Exception ex) {
+                failedCounter.increment();
+                logger.error("[NotificationDispatcher] [submit] Error al enviar notificación al usuario ID={}: {}", notification.userId(), ex.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        logger.info("[NotificationDispatcher] [shutdown] Enviando {} notificaciones pendientes antes de apagar", pending.size());
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        pending.keySet().forEach(key -> {
+            PendingNotification notification = pending.remove(key);
+            if (notification != null) {
+                submit(notification);
+            }
+        });
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            logger.warn("[NotificationDispatcher] [shutdown] No se alcanzaron a enviar todas las notificaciones");
+            workers.shutdownNow();
+        }
+    }
+
+    private record CoalescingKey(UUID userId, UUID issueId, String type) {
+    }
+
+    private record PendingNotification(UUID userId, String message, String type, Map<String, Object> metadata,
+                                       UUID projectId, UUID issueId, long dueAt) {
+        PendingNotification withDueAt(long dueAt) {
+            return new PendingNotification(userId, message, type, metadata, projectId, issueId, dueAt);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.cartagenacorp.lm_issues.dto.NotificationDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
@@ -24,11 +25,14 @@ public class NotificationExternalService {
     private final RestTemplate restTemplate;
 
     @Autowired
-    public NotificationExternalService(RestTemplate restTemplate) {
+    public NotificationExternalService(@Qualifier("notificationRestTemplate") RestTemplate restTemplate) {
         this.restTemplate = restTemplate;
     }
 
-    public void sendNotification(UUID userId, String message, String type, Map<String, Object> metadata, UUID projectId, UUID issueId) {
+    /**
+     * @return true si lm-notifications aceptó la notificación; los errores se registran y devuelven false
+     */
+    public boolean sendNotification(UUID userId, String message, String type, Map<String, Object> metadata, UUID projectId, UUID issueId) {
         if (userId == null || message == null || type == null) {
             throw new IllegalArgumentException("Faltan campos de notificación obligatorios");
         }
@@ -46,6 +50,7 @@ public class NotificationExternalService {
         try {
             logger.info("[NotificationExternalService] [sendNotification] Realizando envio de notificación: {}", request);
             restTemplate.postForEntity(url, request, Void.class);
+            return true;
         } catch (HttpClientErrorException.Unauthorized ex) {
             logger.warn("[NotificationExternalService] [sendNotification] Token no autorizado: {}", ex.getMessage());
         } catch (HttpClientErrorException.Forbidden ex) {
@@ -55,6 +60,7 @@ public class NotificationExternalService {
         }  catch (Exception ex) {
             logger.error("[NotificationExternalService] [sendNotification] Error al enviar la notificación: {}", ex.getMessage(), ex);
         }
+        return false;
     }
 }
 
@@ -1,14 +1,23 @@
 package com.cartagenacorp.lm_issues.service;
 
+import com.cartagenacorp.lm_issues.exceptions.BaseException;
+import com.cartagenacorp.lm_issues.util.ConstantUtil;
+import com.cartagenacorp.lm_issues.util.JwtContextHolder;
+import com.cartagenacorp.lm_issues.util.RequestMemo;
+import com.cartagenacorp.lm_issues.util.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
@@ -23,15 +32,24 @@ public class ProjectExternalService {
     private String projectServiceUrl;
 
     private final RestTemplate restTemplate;
+    private final ProjectParticipationCache participationCache;
+    private final SingleFlight<ParticipationRequest, Participation> participationFlight;
 
-    public ProjectExternalService(RestTemplate restTemplate) {
+    public ProjectExternalService(@Qualifier("projectRestTemplate") RestTemplate restTemplate, ProjectParticipationCache participationCache,
+                                  MeterRegistry meterRegistry) {
         this.restTemplate = restTemplate;
+        this.participationCache = participationCache;
+        this.participationFlight = new SingleFlight<>("validateParticipant", meterRegistry);
     }
 
     public boolean validateProjectExists(UUID projectId, String token) {
         if (projectId == null) {
             return false;
         }
+        return RequestMemo.memoize("validateProjectExists", projectId, () -> fetchProjectExists(projectId, token));
+    }
+
+    private boolean fetchProjectExists(UUID projectId, String token) {
         logger.debug("[ProjectExternalService] [validateProjectExists] Validando la existencia del proyecto con ID={}", projectId);
         try {
             String url = projectServiceUrl + "/validate/" + projectId;
@@ -53,8 +71,9 @@ public class ProjectExternalService {
             logger.warn("[ProjectExternalService] [validateProjectExists] Token no autorizado para validar la existencia del proyecto: {}", ex.getMessage());
         } catch (HttpClientErrorException.Forbidden ex) {
             logger.warn("[ProjectExternalService] [validateProjectExists] No tiene permisos para  validar la existencia del proyecto: {}", ex.getMessage());
-        } catch (ResourceAccessException ex) {
+        } catch (ResourceAccessException | HttpServerErrorException ex) {
             logger.warn("[ProjectExternalService] [validateProjectExists] El servicio externo no esta disponible: {}",ex.getMessage());
+            throw new BaseException(ConstantUtil.ACCESS_EXCEPTION, HttpStatus.SERVICE_UNAVAILABLE.value());
         }  catch (Exception ex) {
             logger.error("[ProjectExternalService] [validateProjectExists] Error al validar la existencia del proyecto: {}", ex.getMessage(), ex);
         }
@@ -62,6 +81,52 @@ public class ProjectExternalService {
     }
 
     public boolean validateProjectParticipant(UUID projectId, String token) {
+        return RequestMemo.memoize("validateProjectParticipant", projectId, () -> resolveProjectParticipant(projectId, token));
+    }
+
+    private boolean resolveProjectParticipant(UUID projectId, String token) {
+        UUID userId = JwtContextHolder.getUserId();
+        boolean cacheable = userId != null && projectId != null;
+
+        if (cacheable) {
+            Boolean cached = participationCache.get(userId, projectId);
+            if (cached != null) {
+                logger.debug("[ProjectExternalService] [validateProjectParticipant] Participación del usuario ID={} en el proyecto ID={} obtenida de caché: {}", userId, projectId, cached);
+                return cached;
+            }
+        }
+
+        Participation participation = cacheable
+                ? participationFlight.execute(new ParticipationRequest(userId, projectId), () -> fetchProjectParticipant(projectId, token))
+                : fetchProjectParticipant(projectId, token);
+        switch (participation) {
+            case PARTICIPANT, NOT_PARTICIPANT -> {
+                boolean participant = participation == Participation.PARTICIPANT;
+                if (cacheable) {
+                    participationCache.put(userId, projectId, participant);
+                }
+                return participant;
+            }
+            case UNAVAILABLE -> {
+                Boolean lastKnown = cacheable ? participationCache.getLastKnown(userId, projectId) : null;
+                if (lastKnown != null) {
+                    logger.warn("[ProjectExternalService] [validateProjectParticipant] lm-projects no disponible, se usa la última participación conocida del usuario ID={} en el proyecto ID={}: {}", userId, projectId, lastKnown);
+                    return lastKnown;
+                }
+                throw new BaseException(ConstantUtil.ACCESS_EXCEPTION, HttpStatus.SERVICE_UNAVAILABLE.value());
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Solo PARTICIPANT y NOT_PARTICIPANT son respuestas definitivas que se pueden guardar en caché.
+     * UNAVAILABLE indica que lm-projects no respondió (o su circuito está abierto), para no
+     * convertir una caída en un falso 403.
+     */
+    private Participation fetchProjectParticipant(UUID projectId, String token) {
         logger.debug("[ProjectExternalService] [validateProjectParticipant] Validando participación en el proyecto con ID={}", projectId);
         try {
             String url = projectServiceUrl + "/validateParticipant/" + projectId;
@@ -78,18 +143,31 @@ public class ProjectExternalService {
             );
 
             logger.info("[ProjectExternalService] [validateProjectParticipant] Resultado validación de participación en proyecto {}: {}", projectId, response);
-            return Boolean.TRUE.equals(response.getBody());
+            return Boolean.TRUE.equals(response.getBody()) ? Participation.PARTICIPANT : Participation.NOT_PARTICIPANT;
         } catch (HttpClientErrorException.NotFound ex) {
             logger.warn("[ProjectExternalService] [validateProjectParticipant] Proyecto no encontrado: {}", ex.getMessage());
+            return Participation.NOT_PARTICIPANT;
         } catch (HttpClientErrorException.Unauthorized ex) {
             logger.warn("[ProjectExternalService] [validateProjectParticipant] Token no autorizado para validar participación en proyecto: {}", ex.getMessage());
+            return Participation.REJECTED;
         } catch (HttpClientErrorException.Forbidden ex) {
             logger.warn("[ProjectExternalService] [validateProjectParticipant] No tiene permisos para validar participación en proyecto: {}", ex.getMessage());
+            return Participation.NOT_PARTICIPANT;
+        } catch (HttpClientErrorException ex) {
+            logger.warn("[ProjectExternalService] [validateProjectParticipant] Solicitud rechazada al validar participación en proyecto: {}", ex.getMessage());
+            return Participation.REJECTED;
         } catch (ResourceAccessException ex) {
             logger.warn("[ProjectExternalService] [validateProjectParticipant] El servicio externo no está disponible: {}", ex.getMessage());
         } catch (Exception ex) {
             logger.error("[ProjectExternalService] [validateProjectParticipant] Error al validar participación en proyecto: {}", ex.getMessage(), ex);
         }
-        return false;
+        return Participation.UNAVAILABLE;
+    }
+
+    private enum Participation {
+        PARTICIPANT, NOT_PARTICIPANT, REJECTED, UNAVAILABLE
+    }
+
+    private record ParticipationRequest(UUID userId, UUID projectId) {
     }
 }
@@ -0,0 +1,91 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Caché en memoria de la participación (usuario, proyecto) validada contra lm-projects.
+ * Los resultados negativos se guardan con un TTL más corto para que un usuario recién
+ * agregado al proyecto no quede bloqueado mucho tiempo si lm-projects no invalida.
+ * Además se conserva la última respuesta conocida durante fallback-ttl, que se usa solo
+ * cuando lm-projects no está disponible.
+ */
+@Component
+public class ProjectParticipationCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectParticipationCache.class);
+
+    private final Cache<ParticipationKey, Boolean> cache;
+    private final Cache<ParticipationKey, Boolean> lastKnown;
+
+    public ProjectParticipationCache(MeterRegistry meterRegistry,
+                                     @Value("${project.participation-cache.max-size:10000}") long maxSize,
+                                     @Value("${project.participation-cache.ttl:PT5M}") Duration ttl,
+                                     @Value("${project.participation-cache.negative-ttl:PT30S}") Duration negativeTtl,
+                                     @Value("${project.participation-cache.fallback-ttl:PT1H}") Duration fallbackTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<ParticipationKey, Boolean>() {
+                    @Override
+                    public long expireAfterCreate(ParticipationKey key, Boolean participant, long currentTime) {
+                        return (participant ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ParticipationKey key, Boolean participant, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, participant, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ParticipationKey key, Boolean participant, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        this.lastKnown = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(fallbackTtl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "project.participation");
+    }
+
+    public Boolean get(UUID userId, UUID projectId) {
+        return cache.getIfPresent(new ParticipationKey(userId, projectId));
+    }
+
+    public Boolean getLastKnown(UUID userId, UUID projectId) {
+        return lastKnown.getIfPresent(new ParticipationKey(userId, projectId));
+    }
+
+    public void put(UUID userId, UUID projectId, boolean participant) {
+        ParticipationKey key = new ParticipationKey(userId, projectId);
+        cache.put(key, participant);
+        lastKnown.put(key, participant);
+    }
+
+    public void invalidate(UUID userId, UUID projectId) {
+        logger.info("[ProjectParticipationCache] [invalidate] Invalidando participación del usuario ID={} en el proyecto ID={}", userId, projectId);
+        cache.invalidate(new ParticipationKey(userId, projectId));
+        lastKnown.invalidate(new ParticipationKey(userId, projectId));
+    }
+
+    public void invalidateProject(UUID projectId) {
+        logger.info("[ProjectParticipationCache] [invalidateProject] Invalidando participaciones del proyecto ID={}", projectId);
+        cache.asMap().keySet().removeIf(key -> key.projectId().equals(projectId));
+        lastKnown.asMap().keySet().removeIf(key -> key.projectId().equals(projectId));
+    }
+
+    private record ParticipationKey(UUID userId, UUID projectId) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.cartagenacorp.lm_issues.exceptions.BaseException;
+import com.cartagenacorp.lm_issues.util.ConstantUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta en paralelo las validaciones remotas independientes previas a una escritura.
+ * Todas comparten un mismo plazo; la primera validación que falla cancela las demás. Si remoteCallExecutor
+ * está saturado la escritura se rechaza con 503 en vez de validar en el hilo de la petición sin plazo.
+ * Publica issues.validation.duration con kind=critical_path (tiempo real de la espera) y
+ * kind=sequential_sum (lo que habría costado ejecutarlas una tras otra).
+ */
+@Service
+public class RemoteValidationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RemoteValidationService.class);
+
+    private final TaskExecutor remoteCallExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${outbound.validation.timeout:PT5S}")
+    private Duration timeout;
+
+    public RemoteValidationService(@Qualifier("remoteCallExecutor") TaskExecutor remoteCallExecutor, MeterRegistry meterRegistry) {
+        this.remoteCallExecutor = remoteCallExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void validateAll(String operation, List<RemoteCheck> checks) {
+        if (checks.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+
+        ExecutorCompletionService<CheckResult> completionService = new ExecutorCompletionService<>(remoteCallExecutor);
+        List<Future<CheckResult>> futures = new ArrayList<>(checks.size());
+        long sequentialNanos = 0;
+        boolean completed = false;
+        try {
+            for (RemoteCheck check : checks) {
+                futures.add(completionService.submit(() -> {
+                    long checkStart = System.nanoTime();
+                    boolean valid = check.check().getAsBoolean();
+                    return new CheckResult(check, valid, System.nanoTime() - checkStart);
+                }));
+            }
+
+            for (int i = 0; i < checks.size(); i++) {
+                Future<CheckResult> future = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (future == null) {
+                    logger.warn("[RemoteValidationService] [validateAll] Tiempo de espera agotado en las validaciones de {}", operation);
+                    throw new BaseException(ConstantUtil.EXTERNAL_VALIDATION_TIMEOUT, HttpStatus.GATEWAY_TIMEOUT.value());
+                }
+                CheckResult result = getResult(future);
+                sequentialNanos += result.elapsedNanos();
+                if (!result.valid()) {
+                    logger.debug("[RemoteValidationService] [validateAll] Falló la validación {} de {}", result.check().name(), operation);
+                    throw result.check().onFailure().get();
+                }
+            }
+            completed = true;
+        } catch (TaskRejectedException ex) {
+            logger.warn("[RemoteValidationService] [validateAll] remoteCallExecutor saturado, se rechazan las validaciones de {}", operation);
+            throw new BaseException(ConstantUtil.EXTERNAL_VALIDATION_BUSY, HttpStatus.SERVICE_UNAVAILABLE.value());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(ConstantUtil.EXTERNAL_VALIDATION_TIMEOUT, HttpStatus.GATEWAY_TIMEOUT.value());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+            long criticalPathNanos = System.nanoTime() - start;
+            timer(operation, "critical_path").record(criticalPathNanos, TimeUnit.NANOSECONDS);
+            if (completed) {
+                timer(operation, "sequential_sum").record(sequentialNanos, TimeUnit.NANOSECONDS);
+                logger.debug("[RemoteValidationService] [validateAll] Validaciones de {} completadas en {} ms (secuencial: {} ms)",
+                        operation, TimeUnit.NANOSECONDS.toMillis(criticalPathNanos), TimeUnit.NANOSECONDS.toMillis(sequentialNanos));
+            }
+        }
+    }
+
+    private CheckResult getResult(Future<CheckResult> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof BaseException baseException) {
+                throw baseException;
+            }
+            logger.error("[RemoteValidationService] [getResult] Error inesperado en una validación remota: {}", ex.getCause().getMessage(), ex.getCause());
+            throw new BaseException(ConstantUtil.ACCESS_EXCEPTION, HttpStatus.BAD_GATEWAY.value());
+        }
+    }
+
+    private Timer timer(String operation, String kind) {
+        return Timer.builder("issues.validation.duration")
+                .tag("operation", operation)
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    public record RemoteCheck(String name, BooleanSupplier check, Supplier<BaseException> onFailure) {
+    }
+
+    private record CheckResult(RemoteCheck check, boolean valid, long elapsedNanos) {
+    }
+}
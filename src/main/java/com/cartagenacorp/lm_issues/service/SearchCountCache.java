@@ -0,0 +1,41 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.cartagenacorp.lm_issues.dto.SearchMode;
+import com.cartagenacorp.lm_issues.repository.IssueSearchFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Total de resultados por combinación de filtros para el modo de conteo ESTIMATED. El valor puede
+ * quedar desactualizado hasta search.count-cache.ttl, por eso la respuesta lo marca como estimado.
+ */
+@Component
+public class SearchCountCache {
+
+    private final Cache<CountKey, Long> cache;
+
+    public SearchCountCache(MeterRegistry meterRegistry,
+                            @Value("${search.count-cache.max-size:2000}") long maxSize,
+                            @Value("${search.count-cache.ttl:PT1M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "search.count");
+    }
+
+    public long get(SearchMode mode, String keyword, IssueSearchFilter filter, LongSupplier counter) {
+        return cache.get(new CountKey(mode, keyword, filter), key -> counter.getAsLong());
+    }
+
+    private record CountKey(SearchMode mode, String keyword, IssueSearchFilter filter) {
+    }
+}
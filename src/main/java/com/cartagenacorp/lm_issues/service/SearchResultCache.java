@@ -0,0 +1,157 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.cartagenacorp.lm_issues.dto.CountMode;
+import com.cartagenacorp.lm_issues.dto.IssueDtoResponse;
+import com.cartagenacorp.lm_issues.dto.PageResponseDTO;
+import com.cartagenacorp.lm_issues.dto.SearchMode;
+import com.cartagenacorp.lm_issues.repository.IssueSearchFilter;
+import com.cartagenacorp.lm_issues.repository.ProjectSearchVersionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Páginas de /api/issues/search por (proyecto, filtros normalizados, orden, página), ligadas a la
+ * versión del proyecto en project_search_version. Después del commit de cada transacción que escribe
+ * sobre un proyecto se incrementa su versión en una transacción corta aparte, con lo que todas sus
+ * páginas en caché dejan de usarse a la vez en todas las instancias. Incrementarla dentro de la
+ * transacción de escritura serializaría todas las escrituras del proyecto (y cada bloque de una
+ * importación) sobre esa fila hasta el commit; a cambio, entre el commit y el incremento otra consulta
+ * puede recibir una página anterior a la escritura. Si el incremento falla, el ttl acota cuánto dura eso.
+ * Leer la versión cuesta una búsqueda por clave primaria por consulta.
+ */
+@Component
+public class SearchResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchResultCache.class);
+
+    private final Cache<ResultKey, PageResponseDTO<IssueDtoResponse>> cache;
+    private final ProjectSearchVersionRepository projectSearchVersionRepository;
+    private final TransactionTemplate versionTransaction;
+    private final boolean enabled;
+
+    public SearchResultCache(MeterRegistry meterRegistry, ProjectSearchVersionRepository projectSearchVersionRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${search.result-cache.enabled:true}") boolean enabled,
+                             @Value("${search.result-cache.max-size:1000}") long maxSize,
+                             @Value("${search.result-cache.ttl:PT30S}") Duration ttl) {
+        this.projectSearchVersionRepository = projectSearchVersionRepository;
+        // afterCommit corre con los recursos de la transacción ya confirmada todavía ligados al hilo
+        this.versionTransaction = new TransactionTemplate(transactionManager);
+        this.versionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "search.results");
+    }
+
+    public PageResponseDTO<IssueDtoResponse> get(SearchMode mode, String keyword, IssueSearchFilter filter, boolean highlight,
+                                                 CountMode countMode, Pageable pageable,
+                                                 Supplier<PageResponseDTO<IssueDtoResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        // La versión se toma antes de consultar, así un resultado leído durante una escritura queda con la versión anterior
+        long version = filter.projectId() != null ? projectSearchVersionRepository.findVersion(filter.projectId()) : 0L;
+        ResultKey key = new ResultKey(filter.projectId(), version, mode,
+                normalize(keyword), normalize(filter), highlight, countMode, pageable);
+        PageResponseDTO<IssueDtoResponse> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        PageResponseDTO<IssueDtoResponse> result = loader.get();
+        cache.put(key, result);
+        return result;
+    }
+
+    /**
+     * Invalida las páginas del proyecto. Dentro de una transacción la versión se incrementa después del
+     * commit, junto con los demás proyectos que toque la misma transacción; fuera de ella, de inmediato.
+     */
+    public void invalidateProject(UUID projectId) {
+        if (projectId == null) {
+            return;
+        }
+        invalidateProjects(List.of(projectId));
+    }
+
+    public void invalidateProjects(Collection<UUID> projectIds) {
+        Set<UUID> ids = new TreeSet<>();
+        projectIds.stream().filter(Objects::nonNull).forEach(ids::add);
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(ids);
+            return;
+        }
+        // Las sincronizaciones de una transacción suspendida no aparecen aquí, así que cada transacción tiene la suya
+        VersionBump bump = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(VersionBump.class::isInstance)
+                .map(VersionBump.class::cast)
+                .findFirst()
+                .orElse(null);
+        if (bump == null) {
+            bump = new VersionBump();
+            TransactionSynchronizationManager.registerSynchronization(bump);
+        }
+        bump.projectIds.addAll(ids);
+    }
+
+    private void increment(Set<UUID> projectIds) {
+        try {
+            versionTransaction.executeWithoutResult(status -> projectSearchVersionRepository.increment(projectIds));
+            logger.debug("[SearchResultCache] [increment] Nueva versión para los proyectos {}", projectIds);
+        } catch (RuntimeException ex) {
+            logger.warn("[SearchResultCache] [increment] No se pudo incrementar la versión de los proyectos {}: {}", projectIds, ex.getMessage());
+        }
+    }
+
+    private static String normalize(String keyword) {
+        return keyword == null || keyword.isBlank() ? null : keyword.trim();
+    }
+
+    private static IssueSearchFilter normalize(IssueSearchFilter filter) {
+        List<UUID> assignedIds = filter.assignedIds() == null || filter.assignedIds().isEmpty()
+                ? null
+                : new TreeSet<>(filter.assignedIds()).stream().toList();
+        return new IssueSearchFilter(filter.projectId(), filter.sprintId(), filter.status(), filter.priority(),
+                filter.type(), assignedIds, filter.isParent());
+    }
+
+    /**
+     * Proyectos escritos por la transacción; tras el commit se incrementan con un solo UPDATE y en orden,
+     * así dos incrementos concurrentes no se interbloquean. Si la transacción se revierte no se incrementan.
+     */
+    private final class VersionBump implements TransactionSynchronization {
+
+        private final Set<UUID> projectIds = new TreeSet<>();
+
+        @Override
+        public void afterCommit() {
+            increment(projectIds);
+        }
+    }
+
+    private record ResultKey(UUID projectId, long version, SearchMode mode, String keyword, IssueSearchFilter filter,
+                             boolean highlight, CountMode countMode, Pageable pageable) {
+    }
+}
@@ -1,8 +1,10 @@
 package com.cartagenacorp.lm_issues.service;
 
 import com.cartagenacorp.lm_issues.dto.SprintDto;
+import com.cartagenacorp.lm_issues.util.RequestMemo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -25,11 +27,15 @@ public class SprintExternalService {
 
     private final RestTemplate restTemplate;
 
-    public SprintExternalService(RestTemplate restTemplate) {
+    public SprintExternalService(@Qualifier("sprintRestTemplate") RestTemplate restTemplate) {
         this.restTemplate = restTemplate;
     }
 
     public SprintDto getSprintById(UUID sprintId, String token) {
+        return RequestMemo.memoize("getSprintById", sprintId, () -> fetchSprintById(sprintId, token));
+    }
+
+    private SprintDto fetchSprintById(UUID sprintId, String token) {
         try {
             String url = sprintServiceUrl + "/" + sprintId;
             logger.info("[SprintExternalService] [getSprintById] Llamando al servicio externo para obtener el Sprint con ID={}", sprintId);
@@ -0,0 +1,200 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.cartagenacorp.lm_issues.dto.UserBasicDataDto;
+import com.cartagenacorp.lm_issues.util.SingleFlight;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Caché de datos básicos de usuarios obtenidos de lm-oauth.
+ * Una entrada fresca se sirve localmente; una entrada vencida pero dentro de max-stale se sirve
+ * igual y se revalida en segundo plano, de modo que una caída de lm-oauth no borra los nombres.
+ * Con refresh-ahead las entradas que se siguen leyendo se refrescan antes de vencer.
+ * Los IDs faltantes que ya se están consultando en otra petición no se vuelven a pedir:
+ * se espera el resultado de esa consulta (single-flight por ID).
+ */
+@Component
+public class UserDataCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDataCache.class);
+
+    private final Cache<UUID, CachedUser> cache;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final boolean refreshAheadEnabled;
+    private final Set<UUID> refreshing = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<UUID, CompletableFuture<UserBasicDataDto>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor;
+    private final Counter staleServed;
+    private final Counter refreshes;
+    private final Counter collapsed;
+
+    public UserDataCache(MeterRegistry meterRegistry,
+                         @Value("${auth.users-cache.max-size:5000}") long maxSize,
+                         @Value("${auth.users-cache.ttl:PT5M}") Duration ttl,
+                         @Value("${auth.users-cache.max-stale:PT1H}") Duration maxStale,
+                         @Value("${auth.users-cache.refresh-ahead:true}") boolean refreshAheadEnabled,
+                         @Value("${auth.users-cache.refresh-ahead-factor:0.8}") double refreshAheadFactor) {
+        this.ttlNanos = ttl.toNanos();
+        this.refreshAheadNanos = (long) (ttlNanos * refreshAheadFactor);
+        this.refreshAheadEnabled = refreshAheadEnabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl.plus(maxStale))
+                .recordStats()
+                .build();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("users-refresh-");
+        threadFactory.setDaemon(true);
+        this.refreshExecutor = new ThreadPoolExecutor(1, 2, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(100), threadFactory);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+        this.staleServed = meterRegistry.counter("issues.users.cache.stale");
+        this.refreshes = meterRegistry.counter("issues.users.cache.refresh");
+        this.collapsed = SingleFlight.collapsedCounter("usersBatch", meterRegistry);
+    }
+
+    /**
+     * Resuelve los usuarios solicitados consultando al loader solo por los IDs que no están en caché.
+     * El loader retorna null cuando el servicio externo falló, en cuyo caso no se modifica la caché.
+     */
+    public List<UserBasicDataDto> getUsers(Collection<UUID> ids, Function<List<UUID>, List<UserBasicDataDto>> loader) {
+        long now = System.nanoTime();
+        List<UserBasicDataDto> result = new ArrayList<>(ids.size());
+        List<UUID> missing = new ArrayList<>();
+        List<UUID> toRefresh = new ArrayList<>();
+
+        for (UUID id : new LinkedHashSet<>(ids)) {
+            CachedUser cached = cache.getIfPresent(id);
+            if (cached == null) {
+                missing.add(id);
+                continue;
+            }
+            result.add(cached.user());
+            long age = now - cached.loadedAt();
+            if (age > ttlNanos) {
+                staleServed.increment();
+                toRefresh.add(id);
+            } else if (refreshAheadEnabled && age > refreshAheadNanos) {
+                toRefresh.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            result.addAll(loadMissing(missing, loader));
+        }
+
+        if (!toRefresh.isEmpty()) {
+            refreshAsync(toRefresh, loader);
+        }
+        return result;
+    }
+
+    private List<UserBasicDataDto> loadMissing(List<UUID> missing, Function<List<UUID>, List<UserBasicDataDto>> loader) {
+        Map<UUID, CompletableFuture<UserBasicDataDto>> owned = new LinkedHashMap<>();
+        Map<UUID, CompletableFuture<UserBasicDataDto>> awaited = new LinkedHashMap<>();
+        for (UUID id : missing) {
+            CompletableFuture<UserBasicDataDto> created = new CompletableFuture<>();
+            CompletableFuture<UserBasicDataDto> existing = inFlight.putIfAbsent(id, created);
+            if (existing != null) {
+                collapsed.increment();
+                awaited.put(id, existing);
+            } else {
+                owned.put(id, created);
+            }
+        }
+
+        List<UserBasicDataDto> result = new ArrayList<>(missing.size());
+        if (!owned.isEmpty()) {
+            try {
+                List<UserBasicDataDto> loaded = loader.apply(new ArrayList<>(owned.keySet()));
+                if (loaded != null) {
+                    putAll(loaded);
+                    result.addAll(loaded);
+                    for (UserBasicDataDto user : loaded) {
+                        CompletableFuture<UserBasicDataDto> future = user != null ? owned.get(user.getId()) : null;
+                        if (future != null) {
+                            future.complete(user);
+                        }
+                    }
+                }
+            } finally {
+                owned.forEach((id, future) -> {
+                    future.complete(null);
+                    inFlight.remove(id, future);
+                });
+            }
+        }
+
+        awaited.values().forEach(future -> {
+            try {
+                UserBasicDataDto user = future.join();
+                if (user != null) {
+                    result.add(user);
+                }
+            } catch (CompletionException ex) {
+                logger.debug("[UserDataCache] [loadMissing] Falló la consulta compartida de usuarios: {}", ex.getMessage());
+            }
+        });
+        return result;
+    }
+
+    public UserBasicDataDto getIfPresent(UUID id) {
+        CachedUser cached = cache.getIfPresent(id);
+        return cached != null ? cached.user() : null;
+    }
+
+    private void refreshAsync(List<UUID> ids, Function<List<UUID>, List<UserBasicDataDto>> loader) {
+        List<UUID> claimed = ids.stream().filter(refreshing::add).toList();
+        if (claimed.isEmpty()) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshes.increment();
+                    List<UserBasicDataDto> loaded = loader.apply(claimed);
+                    if (loaded != null) {
+                        putAll(loaded);
+                    }
+                } catch (Exception ex) {
+                    logger.warn("[UserDataCache] [refreshAsync] No se pudieron revalidar {} usuarios: {}", claimed.size(), ex.getMessage());
+                } finally {
+                    claimed.forEach(refreshing::remove);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            claimed.forEach(refreshing::remove);
+        }
+    }
+
+    private void putAll(List<UserBasicDataDto> users) {
+        long now = System.nanoTime();
+        for (UserBasicDataDto user : users) {
+            if (user != null && user.getId() != null) {
+                cache.put(user.getId(), new CachedUser(user, now));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private record CachedUser(UserBasicDataDto user, long loadedAt) {
+    }
+}
@@ -1,18 +1,25 @@
 package com.cartagenacorp.lm_issues.service;
 
 import com.cartagenacorp.lm_issues.dto.UserBasicDataDto;
+import com.cartagenacorp.lm_issues.exceptions.BaseException;
+import com.cartagenacorp.lm_issues.util.ConstantUtil;
+import com.cartagenacorp.lm_issues.util.RequestMemo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -24,12 +31,32 @@ public class UserExternalService {
     private String authServiceUrl;
 
     private final RestTemplate restTemplate;
+    private final UserDataCache userDataCache;
 
-    public UserExternalService(RestTemplate restTemplate) {
+    public UserExternalService(@Qualifier("userRestTemplate") RestTemplate restTemplate, UserDataCache userDataCache) {
         this.restTemplate = restTemplate;
+        this.userDataCache = userDataCache;
     }
 
     public List<UserBasicDataDto> getUsersData(String token, List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<UUID> userIds = ids.stream().map(UUID::fromString).distinct().toList();
+
+        Map<UUID, UserBasicDataDto> resolved = RequestMemo.map("usersData");
+        List<UUID> pending = userIds.stream().filter(id -> !resolved.containsKey(id)).toList();
+        if (!pending.isEmpty()) {
+            userDataCache.getUsers(pending, missing -> fetchUsersData(token, missing.stream().map(UUID::toString).toList()))
+                    .forEach(user -> resolved.put(user.getId(), user));
+        }
+        return userIds.stream().map(resolved::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Retorna null cuando el servicio externo falló, para que la caché conserve los datos que ya tenía.
+     */
+    private List<UserBasicDataDto> fetchUsersData(String token, List<String> ids) {
         logger.debug("[UserExternalService] [getUsersData] Obteniendo información de los usuarios con IDs: {}", ids);
         try {
             String url = authServiceUrl + "/users/batch";
@@ -58,10 +85,14 @@ public class UserExternalService {
         }  catch (Exception ex) {
             logger.error("[UserExternalService] [getUsersData] Error al obtener información de los usuarios con IDs {}: {}", ids, ex.getMessage(), ex);
         }
-        return Collections.emptyList();
+        return null;
     }
 
     public boolean userExists(UUID userId, String token) {
+        return RequestMemo.memoize("userExists", userId, () -> fetchUserExists(userId, token));
+    }
+
+    private boolean fetchUserExists(UUID userId, String token) {
         logger.debug("[UserExternalService] [userExists] Validando la existencia del usuario con ID={}", userId);
         try {
             String url = authServiceUrl + "/validate/" + userId;
@@ -82,8 +113,13 @@ public class UserExternalService {
             logger.warn("[UserExternalService] [userExists] Token no autorizado para validar la existencia del usuario: {}", ex.getMessage());
         } catch (HttpClientErrorException.Forbidden ex) {
             logger.warn("[UserExternalService] [userExists] No tiene permisos para  validar la existencia del usuario: {}", ex.getMessage());
-        } catch (ResourceAccessException ex) {
+        } catch (ResourceAccessException | HttpServerErrorException ex) {
             logger.warn("[UserExternalService] [userExists] El servicio externo no esta disponible: {}",ex.getMessage());
+            if (userDataCache.getIfPresent(userId) != null) {
+                logger.warn("[UserExternalService] [userExists] Se usa la caché de usuarios para validar la existencia del usuario con ID={}", userId);
+                return true;
+            }
+            throw new BaseException(ConstantUtil.ACCESS_EXCEPTION, HttpStatus.SERVICE_UNAVAILABLE.value());
         }  catch (Exception ex) {
             logger.error("[UserExternalService] [userExists] Error al validar la existencia del usuario: {}", ex.getMessage(), ex);
         }
@@ -0,0 +1,51 @@
+package com.cartagenacorp.lm_issues.util;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aplica el circuit breaker del servicio externo a cada llamada. Solo las respuestas 5xx y los
+ * errores de red cuentan como fallo; los rechazos del bulkhead local (OutboundBulkheadFullException)
+ * se excluyen con ignore-exceptions. Con el circuito abierto se lanza ResourceAccessException
+ * de inmediato, igual que cuando el servicio no responde.
+ */
+public class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerInterceptor(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (CallNotPermittedException ex) {
+            throw new ResourceAccessException("Circuito abierto hacia " + circuitBreaker.getName());
+        }
+
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            long elapsed = System.nanoTime() - start;
+            if (response.getStatusCode().is5xxServerError()) {
+                circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, new IOException("HTTP " + response.getStatusCode().value()));
+            } else {
+                circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            }
+            return response;
+        } catch (IOException | RuntimeException ex) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, ex);
+            throw ex;
+        }
+    }
+}
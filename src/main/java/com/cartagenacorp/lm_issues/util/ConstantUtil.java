@@ -14,6 +14,12 @@ public class ConstantUtil {
     public static final String INTERNAL_SERVER_ERROR = "Error interno del servidor";
     public static final String ORGANIZATION_NAME_ALREADY_EXISTS = "El nombre de la organización ya está en uso";
     public static final String ACCESS_EXCEPTION = "El servicio externo no está disponible o no se pudo acceder a él";
+    public static final String INVALID_CURSOR = "El cursor de paginación no es válido para esta búsqueda";
+    public static final String INVALID_CURSOR_SORT = "La paginación por cursor solo admite ordenar por createdAt, updatedAt, title o id";
+    public static final String EXTERNAL_VALIDATION_TIMEOUT = "Los servicios externos no respondieron a tiempo";
+    public static final String EXTERNAL_VALIDATION_BUSY = "Hay demasiadas validaciones en curso, intente de nuevo más tarde";
+    public static final String IMPORT_TOO_LARGE = "La importación excede la cantidad máxima de Issues permitida";
+    public static final String SERVICE_BUSY = "El servicio está ocupado, intente de nuevo más tarde";
     public static final String ROLE_INITIALIZATION_ERROR = "Error al inicializar roles por defecto";
     public static final String ROLE_DELETE_ERROR = "Error al eliminar roles de la organización";
     public static final String CONFIG_INITIALIZATION_ERROR = "Error al inicializar configuraciones por defecto";
@@ -25,6 +31,7 @@ public class ConstantUtil {
         public static final String RESOURCES_DELETED_SUCCESSFULLY = "Issues eliminados correctamente";
         public static final String SPRINT_ASSIGNED_SUCCESSFULLY = "Issues asignados correctamente al Sprint";
         public static final String SPRINT_UNASSIGNED_SUCCESSFULLY = "Issues eliminados correctamente del Sprint";
+        public static final String PARTICIPANTS_CACHE_INVALIDATED = "Caché de participantes invalidada correctamente";
 
         public Success() {
             throw new IllegalStateException("Util class");
@@ -0,0 +1,35 @@
+package com.cartagenacorp.lm_issues.util;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Pasa explícitamente el contexto de la petición (JwtContextHolder y RequestContextHolder) al hilo
+ * que ejecuta la tarea y restaura el contexto previo al terminar: los pools de hilos de plataforma
+ * reutilizan sus hilos y una tarea no debe dejarle su contexto a la siguiente, y un ejecutor con
+ * CallerRunsPolicy (como el de NotificationDispatcher, que la ejecuta en el hilo flusher) debe
+ * recuperar el contexto propio de ese hilo.
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        JwtContextHolder.Context context = JwtContextHolder.capture();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        return () -> {
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                context.runWith(runnable);
+            } finally {
+                if (previousAttributes != null) {
+                    RequestContextHolder.setRequestAttributes(previousAttributes);
+                } else {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            }
+        };
+    }
+}
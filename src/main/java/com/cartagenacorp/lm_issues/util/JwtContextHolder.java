@@ -36,5 +36,48 @@ public class JwtContextHolder {
         currentToken.remove();
         currentOrganizationId.remove();
     }
-}
 
+    /**
+     * Captura la identidad del hilo actual para pasarla explícitamente a otro hilo.
+     */
+    public static Context capture() {
+        return new Context(getUserId(), getToken(), getOrganizationId());
+    }
+
+    /**
+     * Identidad de la petición (usuario, token, organización). Se enlaza al hilo solo mientras
+     * dura runWith/callWith y luego se restaura el contexto que había antes, de modo que
+     * funciona igual en hilos de plataforma, hilos virtuales o en el mismo hilo de la petición.
+     */
+    public record Context(UUID userId, String token, UUID organizationId) {
+
+        public <T, E extends Throwable> T callWith(ContextCallable<T, E> callable) throws E {
+            Context previous = capture();
+            bind(this);
+            try {
+                return callable.call();
+            } finally {
+                bind(previous);
+            }
+        }
+
+        public void runWith(Runnable runnable) {
+            callWith(() -> {
+                runnable.run();
+                return null;
+            });
+        }
+
+        private static void bind(Context context) {
+            clear();
+            if (context.userId() != null) currentUserId.set(context.userId());
+            if (context.token() != null) currentToken.set(context.token());
+            if (context.organizationId() != null) currentOrganizationId.set(context.organizationId());
+        }
+    }
+
+    @FunctionalInterface
+    public interface ContextCallable<T, E extends Throwable> {
+        T call() throws E;
+    }
+}
@@ -1,13 +1,27 @@
 package com.cartagenacorp.lm_issues.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 
 @Component
@@ -16,11 +30,64 @@ public class JwtTokenUtil {
     @Value("${app.jwt.secret}")
     private String secret;
 
+    /**
+     * Claims ya verificados por digest SHA-256 del token. Cada entrada vence junto con el token
+     * (claim exp) o a los max-ttl si el token no trae exp.
+     */
+    private final Cache<String, VerifiedClaims> verifiedClaims;
+
+    public JwtTokenUtil(MeterRegistry meterRegistry,
+                        @Value("${app.jwt.claims-cache.max-size:10000}") long maxSize,
+                        @Value("${app.jwt.claims-cache.max-ttl:PT15M}") Duration maxTtl) {
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedClaims claims, long currentTime) {
+                        if (claims.expiresAt() == null) {
+                            return maxTtl.toNanos();
+                        }
+                        Duration remaining = Duration.between(Instant.now(), claims.expiresAt());
+                        return Math.max(0, Math.min(remaining.toNanos(), maxTtl.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "jwt.claims");
+    }
+
+    /**
+     * Verifica el token una sola vez y retorna sus claims. Los tokens ya verificados se sirven
+     * desde caché hasta su vencimiento.
+     *
+     * @throws JwtException si la firma no es válida, el token venció o falta un claim obligatorio
+     */
+    public VerifiedClaims verify(String token) {
+        String digest = digest(token);
+        VerifiedClaims cached = verifiedClaims.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+        VerifiedClaims claims = toVerifiedClaims(getAllClaimsFromToken(token));
+        verifiedClaims.put(digest, claims);
+        return claims;
+    }
+
     public boolean validateToken(String token) {
         try {
-            Jwts.parser().setSigningKey(secret).parseClaimsJws(token);
+            verify(token);
             return true;
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
@@ -33,26 +100,46 @@ public class JwtTokenUtil {
     }
 
     public List<String> getPermissionsFromToken(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return (List<String>) claims.get("permissions");
+        return List.copyOf(verify(token).permissions());
     }
 
     public String getRole(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return claims.get("role", String.class);
+        return verify(token).role();
     }
 
     public UUID getUserId(String token) {
-        String id = getAllClaimsFromToken(token).getSubject();
-        return UUID.fromString(id);
+        return verify(token).userId();
     }
 
     public UUID getOrganizationId(String token) {
-        Claims claims = getAllClaimsFromToken(token);
+        return verify(token).organizationId();
+    }
+
+    private VerifiedClaims toVerifiedClaims(Claims claims) {
         String organizationIdStr = claims.get("organization_id", String.class);
         if (organizationIdStr == null) {
             throw new JwtException("El claim 'organization_id' no existe en el token.");
         }
-        return UUID.fromString(organizationIdStr);
+        Object permissions = claims.get("permissions");
+        Set<String> permissionSet = permissions instanceof Collection<?> collection
+                ? collection.stream().map(String::valueOf).collect(Collectors.toUnmodifiableSet())
+                : Set.of();
+        Instant expiresAt = claims.getExpiration() != null ? claims.getExpiration().toInstant() : null;
+        return new VerifiedClaims(
+                UUID.fromString(claims.getSubject()),
+                UUID.fromString(organizationIdStr),
+                claims.get("role", String.class),
+                permissionSet,
+                expiresAt
+        );
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
     }
 }
@@ -0,0 +1,134 @@
+package com.cartagenacorp.lm_issues.util;
+
+import com.cartagenacorp.lm_issues.exceptions.OutboundBulkheadFullException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Aísla cada servicio externo con un límite de llamadas concurrentes (bulkhead) y registra
+ * la latencia por destino en issues.outbound.requests.
+ */
+public class OutboundTargetInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String target;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final MeterRegistry meterRegistry;
+
+    public OutboundTargetInterceptor(String target, int maxConcurrent, Duration acquireTimeout, MeterRegistry meterRegistry) {
+        this.target = target;
+        this.permits = new Semaphore(maxConcurrent);
+        this.acquireTimeout = acquireTimeout;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("issues.outbound.in_flight", permits, p -> maxConcurrent - p.availablePermits())
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new OutboundBulkheadFullException("Interrumpido esperando conexión hacia " + target);
+        }
+        if (!acquired) {
+            timer("REJECTED").record(0, TimeUnit.NANOSECONDS);
+            throw new OutboundBulkheadFullException("Límite de llamadas concurrentes alcanzado hacia " + target);
+        }
+
+        RemoteCallCounter.increment();
+        long start = System.nanoTime();
+        ClientHttpResponse response;
+        String outcome;
+        try {
+            response = execution.execute(request, body);
+            outcome = outcome(response.getStatusCode().value());
+        } catch (IOException | RuntimeException ex) {
+            release(start, "IO_ERROR");
+            throw ex;
+        }
+        // El permiso se libera cuando RestTemplate cierra la respuesta, después de leer el cuerpo
+        return new PermitReleasingResponse(response, start, outcome);
+    }
+
+    private void release(long start, String outcome) {
+        permits.release();
+        timer(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private String outcome(int status) {
+        if (status >= 500) return "SERVER_ERROR";
+        if (status >= 400) return "CLIENT_ERROR";
+        return "SUCCESS";
+    }
+
+    private Timer timer(String outcome) {
+        return Timer.builder("issues.outbound.requests")
+                .tag("target", target)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private final class PermitReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final long start;
+        private final String outcome;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private PermitReleasingResponse(ClientHttpResponse delegate, long start, String outcome) {
+            this.delegate = delegate;
+            this.start = start;
+            this.outcome = outcome;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (closed.compareAndSet(false, true)) {
+                    release(start, outcome);
+                }
+            }
+        }
+    }
+}
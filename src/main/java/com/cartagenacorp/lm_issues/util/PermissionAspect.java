@@ -1,6 +1,7 @@
 package com.cartagenacorp.lm_issues.util;
 
 import com.cartagenacorp.lm_issues.exceptions.BaseException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -12,10 +13,6 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.UUID;
-
 @Aspect
 @Component
 public class PermissionAspect {
@@ -34,32 +31,19 @@ public class PermissionAspect {
 
         String token = authHeader.substring(7);
 
-        if (!jwtTokenUtil.validateToken(token)) {
+        VerifiedClaims claims;
+        try {
+            claims = jwtTokenUtil.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
             throw new BaseException("Token inválido o caducado", HttpStatus.UNAUTHORIZED.value());
         }
 
-        List<String> permissions = jwtTokenUtil.getPermissionsFromToken(token);
-
-        UUID userId = jwtTokenUtil.getUserId(token);
-        UUID organizationId = jwtTokenUtil.getOrganizationId(token);
-        JwtContextHolder.setUserId(userId);
-        JwtContextHolder.setToken(token);
-        JwtContextHolder.setOrganizationId(organizationId);
-
-        try {
-            boolean hasPermission = Arrays.stream(requiresPermission.value())
-                    .anyMatch(permissions::contains);
-
-            if (!hasPermission) {
-                throw new BaseException("Permisos insuficientes", HttpStatus.FORBIDDEN.value());
-            }
-
-            return joinPoint.proceed();
-        } finally {
-            JwtContextHolder.clear();
+        if (!claims.hasAnyPermission(requiresPermission.value())) {
+            throw new BaseException("Permisos insuficientes", HttpStatus.FORBIDDEN.value());
         }
 
-
+        JwtContextHolder.Context context = new JwtContextHolder.Context(claims.userId(), token, claims.organizationId());
+        return context.callWith(joinPoint::proceed);
     }
 }
 
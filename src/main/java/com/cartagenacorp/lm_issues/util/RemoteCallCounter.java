@@ -0,0 +1,43 @@
+package com.cartagenacorp.lm_issues.util;
+
+import jakarta.servlet.ServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cuenta las llamadas HTTP salientes hechas durante la petición actual. El contador vive en los
+ * atributos de la petición, así que también suma las llamadas hechas desde remoteCallExecutor.
+ */
+public final class RemoteCallCounter {
+
+    private static final String ATTRIBUTE = RemoteCallCounter.class.getName();
+
+    private RemoteCallCounter() {
+    }
+
+    /**
+     * Crea el contador de la petición. Lo llama RemoteCallMetricsFilter antes de cualquier otro filtro,
+     * así los incrementos posteriores no necesitan sincronización.
+     */
+    public static void init(ServletRequest request) {
+        request.setAttribute(ATTRIBUTE, new AtomicInteger());
+    }
+
+    public static void increment() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        AtomicInteger counter = (AtomicInteger) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+    }
+
+    public static int get(ServletRequest request) {
+        AtomicInteger counter = (AtomicInteger) request.getAttribute(ATTRIBUTE);
+        return counter != null ? counter.get() : 0;
+    }
+}
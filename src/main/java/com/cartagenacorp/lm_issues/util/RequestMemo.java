@@ -0,0 +1,87 @@
+package com.cartagenacorp.lm_issues.util;
+
+import jakarta.servlet.ServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Memoriza durante una petición HTTP el resultado de cada consulta remota (llamada, argumentos),
+ * para que la misma pregunta se resuelva una sola vez aunque varias partes del flujo la hagan.
+ * Los errores no se memorizan. Fuera de una petición (o si {@link #init} no se llamó) la consulta
+ * se ejecuta siempre.
+ */
+public final class RequestMemo {
+
+    private static final String ATTRIBUTE = RequestMemo.class.getName();
+
+    private RequestMemo() {
+    }
+
+    /**
+     * Crea el memo de la petición. Lo llama RemoteCallMetricsFilter antes de cualquier otro filtro,
+     * así las lecturas posteriores no necesitan sincronización.
+     */
+    public static void init(ServletRequest request) {
+        request.setAttribute(ATTRIBUTE, new ConcurrentHashMap<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T memoize(String call, Object args, Supplier<T> loader) {
+        ConcurrentMap<Object, Object> memo = currentMemo();
+        if (memo == null) {
+            return loader.get();
+        }
+
+        MemoKey key = new MemoKey(call, args);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = (CompletableFuture<Object>) memo.putIfAbsent(key, created);
+        if (existing != null) {
+            try {
+                return (T) existing.join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException runtime ? runtime : ex;
+            }
+        }
+
+        try {
+            T value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            memo.remove(key, created);
+            created.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Mapa asociado a la petición actual para memorizar resultados parciales (por ejemplo, usuarios
+     * resueltos por ID). Fuera de una petición retorna un mapa nuevo que no se comparte.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> ConcurrentMap<K, V> map(String name) {
+        ConcurrentMap<Object, Object> memo = currentMemo();
+        if (memo == null) {
+            return new ConcurrentHashMap<>();
+        }
+        return (ConcurrentMap<K, V>) memo.computeIfAbsent(new MemoKey(name, null), key -> new ConcurrentHashMap<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMap<Object, Object> currentMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return (ConcurrentMap<Object, Object>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private record MemoKey(String call, Object args) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.cartagenacorp.lm_issues.util;
+
+import com.cartagenacorp.lm_issues.exceptions.BaseException;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posición de continuación de la paginación por cursor: el valor del campo de orden y el ID de
+ * la última issue entregada. Se envía al cliente como un token opaco en base64.
+ */
+public record SearchCursor(String sortBy, Sort.Direction direction, UUID id, String value) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + (value != null ? value : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Cursor incompleto");
+            }
+            return new SearchCursor(parts[0], Sort.Direction.valueOf(parts[1]), UUID.fromString(parts[2]), parts[3]);
+        } catch (IllegalArgumentException ex) {
+            throw new BaseException(ConstantUtil.INVALID_CURSOR, HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    public boolean matches(String sortBy, Sort.Direction direction) {
+        return this.sortBy.equals(sortBy) && this.direction == direction;
+    }
+}
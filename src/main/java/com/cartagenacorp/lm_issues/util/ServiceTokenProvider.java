@@ -0,0 +1,66 @@
+package com.cartagenacorp.lm_issues.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Tokens propios del servicio para las llamadas que no ocurren dentro de una petición de usuario
+ * (por ejemplo el envío del outbox de auditoría). Se firman con el mismo secreto compartido, duran
+ * ttl y se reutilizan por organización durante la mitad de su vigencia. Si el cambio no tiene
+ * organización, el token se emite sin el claim organization_id.
+ */
+@Component
+public class ServiceTokenProvider {
+
+    @Value("${app.jwt.secret}")
+    private String secret;
+
+    private final UUID subject;
+    private final List<String> permissions;
+    private final Duration ttl;
+    private final Cache<Optional<UUID>, String> tokens;
+
+    public ServiceTokenProvider(@Value("${app.service-token.subject}") UUID subject,
+                                @Value("${app.service-token.permissions}") List<String> permissions,
+                                @Value("${app.service-token.ttl:PT5M}") Duration ttl) {
+        if (permissions.isEmpty()) {
+            throw new IllegalStateException("app.service-token.permissions no puede estar vacío");
+        }
+        this.subject = subject;
+        this.permissions = List.copyOf(permissions);
+        this.ttl = ttl;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(ttl.dividedBy(2))
+                .build();
+    }
+
+    public String getToken(UUID organizationId) {
+        return tokens.get(Optional.ofNullable(organizationId), this::createToken);
+    }
+
+    private String createToken(Optional<UUID> organizationId) {
+        Instant now = Instant.now();
+        JwtBuilder builder = Jwts.builder().setSubject(subject.toString());
+        organizationId.ifPresent(id -> builder.claim("organization_id", id.toString()));
+        return builder
+                .claim("role", "SERVICE")
+                .claim("permissions", permissions)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(ttl)))
+                .signWith(SignatureAlgorithm.HS256, secret)
+                .compact();
+    }
+}
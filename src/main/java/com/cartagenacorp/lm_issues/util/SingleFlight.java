@@ -0,0 +1,52 @@
+package com.cartagenacorp.lm_issues.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa las consultas idénticas que están en curso al mismo tiempo: la primera ejecuta la
+ * llamada y las demás esperan su resultado en lugar de hacer su propia llamada. Las llamadas
+ * agrupadas se cuentan en issues.singleflight.collapsed con el tag call.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter collapsed;
+
+    public SingleFlight(String call, MeterRegistry meterRegistry) {
+        this.collapsed = collapsedCounter(call, meterRegistry);
+    }
+
+    public static Counter collapsedCounter(String call, MeterRegistry meterRegistry) {
+        return meterRegistry.counter("issues.singleflight.collapsed", "call", call);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            collapsed.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException runtime ? runtime : ex;
+            }
+        }
+
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            created.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.cartagenacorp.lm_issues.util;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Claims de un token ya verificado. Es inmutable para poder compartirse entre peticiones
+ * desde la caché de JwtTokenUtil.
+ */
+public record VerifiedClaims(UUID userId, UUID organizationId, String role, Set<String> permissions, Instant expiresAt) {
+
+    public VerifiedClaims {
+        permissions = Set.copyOf(permissions);
+    }
+
+    public boolean hasAnyPermission(String... required) {
+        return Arrays.stream(required).anyMatch(permissions::contains);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
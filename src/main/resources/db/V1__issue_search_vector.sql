@@ -0,0 +1,105 @@
+-- Búsqueda de texto completo sobre el título y los textos de las descripciones de cada issue.
+-- Se ejecuta en cada arranque (spring.sql.init) después de que Hibernate actualiza el esquema,
+-- por eso todas las sentencias son idempotentes. Las sentencias se separan con ^;
+
+ALTER TABLE issue ADD COLUMN IF NOT EXISTS search_vector tsvector
+^;
+
+CREATE OR REPLACE FUNCTION issue_search_document(p_issue_id uuid, p_title text) RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('spanish', coalesce(p_title, '')), 'A')
+        || setweight(to_tsvector('spanish', coalesce(
+               (SELECT string_agg(d.text, ' ') FROM description d WHERE d.issue_id = p_issue_id), '')), 'B')
+$$ LANGUAGE sql STABLE
+^;
+
+CREATE OR REPLACE FUNCTION issue_search_vector_trigger() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector := issue_search_document(NEW.id, NEW.title);
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql
+^;
+
+DROP TRIGGER IF EXISTS trg_issue_search_vector ON issue
+^;
+
+CREATE TRIGGER trg_issue_search_vector
+    BEFORE INSERT OR UPDATE OF title ON issue
+    FOR EACH ROW EXECUTE FUNCTION issue_search_vector_trigger()
+^;
+
+-- Los cambios en description se aplican por sentencia con tablas de transición: cada issue afectada
+-- se recalcula una sola vez aunque la sentencia inserte o modifique muchas descripciones suyas.
+-- Postgres no admite tablas de transición en triggers de varios eventos ni con UPDATE OF, por eso
+-- hay un trigger por evento y el de UPDATE filtra las filas cuyo texto o issue no cambió.
+DROP TRIGGER IF EXISTS trg_description_search_vector ON description
+^;
+
+DROP FUNCTION IF EXISTS description_search_vector_trigger()
+^;
+
+CREATE OR REPLACE FUNCTION description_search_vector_insert_trigger() RETURNS trigger AS $$
+BEGIN
+    UPDATE issue i SET search_vector = issue_search_document(i.id, i.title)
+    WHERE i.id IN (SELECT DISTINCT n.issue_id FROM new_rows n WHERE n.issue_id IS NOT NULL);
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql
+^;
+
+CREATE OR REPLACE FUNCTION description_search_vector_update_trigger() RETURNS trigger AS $$
+BEGIN
+    UPDATE issue i SET search_vector = issue_search_document(i.id, i.title)
+    WHERE i.id IN (
+        SELECT n.issue_id FROM new_rows n JOIN old_rows o ON o.id = n.id
+        WHERE n.text IS DISTINCT FROM o.text OR n.issue_id IS DISTINCT FROM o.issue_id
+        UNION
+        SELECT o.issue_id FROM new_rows n JOIN old_rows o ON o.id = n.id
+        WHERE n.issue_id IS DISTINCT FROM o.issue_id
+    );
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql
+^;
+
+CREATE OR REPLACE FUNCTION description_search_vector_delete_trigger() RETURNS trigger AS $$
+BEGIN
+    UPDATE issue i SET search_vector = issue_search_document(i.id, i.title)
+    WHERE i.id IN (SELECT DISTINCT o.issue_id FROM old_rows o WHERE o.issue_id IS NOT NULL);
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql
+^;
+
+DROP TRIGGER IF EXISTS trg_description_search_vector_insert ON description
+^;
+
+CREATE TRIGGER trg_description_search_vector_insert
+    AFTER INSERT ON description
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION description_search_vector_insert_trigger()
+^;
+
+DROP TRIGGER IF EXISTS trg_description_search_vector_update ON description
+^;
+
+CREATE TRIGGER trg_description_search_vector_update
+    AFTER UPDATE ON description
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION description_search_vector_update_trigger()
+^;
+
+DROP TRIGGER IF EXISTS trg_description_search_vector_delete ON description
+^;
+
+CREATE TRIGGER trg_description_search_vector_delete
+    AFTER DELETE ON description
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION description_search_vector_delete_trigger()
+^;
+
+UPDATE issue SET search_vector = issue_search_document(id, title) WHERE search_vector IS NULL
+^;
+
+CREATE INDEX IF NOT EXISTS idx_issue_search_vector ON issue USING GIN (search_vector)
+^;
@@ -0,0 +1,22 @@
+-- Índices trigram (pg_trgm) para los modos de búsqueda TRIGRAM y FUZZY.
+-- Si el usuario de la base no puede crear la extensión se omite sin detener el arranque;
+-- en ese caso TRIGRAM funciona sin índice y FUZZY no está disponible.
+
+DO $$
+BEGIN
+    CREATE EXTENSION IF NOT EXISTS pg_trgm;
+EXCEPTION WHEN insufficient_privilege THEN
+    RAISE NOTICE 'No se pudo crear la extensión pg_trgm: %', SQLERRM;
+END
+$$
+^;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') THEN
+        CREATE INDEX IF NOT EXISTS idx_issue_title_trgm ON issue USING GIN (lower(title) gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_description_text_trgm ON description USING GIN (lower(text) gin_trgm_ops);
+    END IF;
+END
+$$
+^;
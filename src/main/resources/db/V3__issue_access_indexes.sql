@@ -0,0 +1,51 @@
+-- Índices para los patrones de acceso de las consultas sobre issue (búsqueda, tablero, backlog,
+-- subtareas y relaciones). Todas las consultas de lista filtran primero por project_id.
+-- priority y type no tienen índice propio: tienen pocos valores y se filtran sobre las filas
+-- que ya seleccionó el índice del proyecto.
+--
+-- spring.sql.init ejecuta este script en cada arranque, sin control de versiones: por eso cada
+-- sentencia es idempotente. Se ejecuta en autocommit, fuera de una transacción, y los índices se
+-- crean con CONCURRENTLY para no bloquear las escrituras sobre issue mientras se construyen.
+-- Despliegue sobre una base con datos:
+--   1. Arrancar primero una sola réplica y esperar a que termine (o ejecutar antes a mano las
+--      sentencias CREATE INDEX); si varias réplicas arrancan a la vez contra una tabla grande,
+--      intentan crear el mismo índice en paralelo y todas salvo una fallan al arrancar.
+--   2. Verificar que no quedaron índices inválidos de una construcción interrumpida:
+--        SELECT indexrelid::regclass FROM pg_index WHERE NOT indisvalid;
+--      IF NOT EXISTS no reconstruye un índice inválido: hay que eliminarlo con
+--      DROP INDEX CONCURRENTLY y volver a ejecutar el script.
+
+-- Orden por defecto (createdAt, id) y paginación por cursor dentro del proyecto
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_project_created ON issue (project_id, created_at, id)
+^;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_project_updated ON issue (project_id, updated_at, id)
+^;
+
+-- Tablero y backlog: issues del sprint (o sin sprint) agrupadas por estado
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_project_sprint_status ON issue (project_id, sprint_id, status)
+^;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_project_status ON issue (project_id, status)
+^;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_project_assigned ON issue (project_id, assigned_id)
+^;
+
+-- findByParentId, filtro isParent y borrado en cascada de subtareas
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_parent_id ON issue (parent_id)
+^;
+
+-- findBySource_Id / findByTarget_Id
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_relation_source ON issue_relation (source_issue_id)
+^;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_relation_target ON issue_relation (target_issue_id)
+^;
+
+-- Descripciones y adjuntos de una página de issues, y el trigger de search_vector
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_description_issue_id ON description (issue_id)
+^;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_description_file_description_id ON description_file (description_id)
+^;
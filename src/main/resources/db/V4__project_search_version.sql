@@ -0,0 +1,8 @@
+-- Versión de los resultados de búsqueda de cada proyecto, compartida por todas las instancias.
+-- Cada transacción que escribe issues de un proyecto la incrementa después del commit y
+-- SearchResultCache la incluye en la clave de sus páginas.
+CREATE TABLE IF NOT EXISTS project_search_version (
+    project_id uuid PRIMARY KEY,
+    version bigint NOT NULL
+)
+^;
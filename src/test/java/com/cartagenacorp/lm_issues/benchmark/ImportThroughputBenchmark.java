@@ -0,0 +1,124 @@
+package com.cartagenacorp.lm_issues.benchmark;
+
+import com.cartagenacorp.lm_issues.LmIssuesApplication;
+import com.cartagenacorp.lm_issues.dto.DescriptionDTO;
+import com.cartagenacorp.lm_issues.dto.ImportResultDTO;
+import com.cartagenacorp.lm_issues.dto.IssueDTO;
+import com.cartagenacorp.lm_issues.service.IssueImportService;
+import com.cartagenacorp.lm_issues.service.IssueService;
+import com.cartagenacorp.lm_issues.support.TestApplication;
+import com.cartagenacorp.lm_issues.util.JwtContextHolder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issues insertadas por segundo al importar 5000 issues con una descripción cada una: createIssuesBatch
+ * (JDBC por lotes de batchSize sentencias en una sola transacción) frente a importIssues (los mismos
+ * lotes, con un commit por bloque de chunkSize issues). El resultado de JMH (ops/s) ya está en issues/s.
+ * chunkSize no afecta a createIssuesBatch.
+ * <p>
+ * Cada combinación de parámetros levanta la aplicación contra Postgres embebido; las tablas se vacían
+ * antes de cada iteración para que el tamaño de los índices no crezca durante la medición.
+ * <p>
+ * mvn -P benchmark test-compile exec:exec -Dbenchmark=ImportThroughputBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ImportThroughputBenchmark.ISSUES)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class ImportThroughputBenchmark {
+
+    static final int ISSUES = 5000;
+
+    @Param({"100", "500", "2000"})
+    public int chunkSize;
+
+    @Param({"50", "100", "500"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private IssueService issueService;
+    private IssueImportService issueImportService;
+    private UUID projectId;
+    private UUID userId;
+    private UUID organizationId;
+    private List<IssueDTO> issues;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> properties = new ArrayList<>(List.of(TestApplication.arguments(TestApplication.properties(null))));
+        properties.add("--spring.main.web-application-type=none");
+        properties.add("--logging.level.root=WARN");
+        properties.add("--import.chunk-size=" + chunkSize);
+        properties.add("--import.batch-size=" + batchSize);
+        context = new SpringApplicationBuilder(LmIssuesApplication.class).run(properties.toArray(String[]::new));
+
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        issueService = context.getBean(IssueService.class);
+        issueImportService = context.getBean(IssueImportService.class);
+        projectId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        organizationId = UUID.randomUUID();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE issue CASCADE");
+        jdbcTemplate.execute("VACUUM ANALYZE issue");
+    }
+
+    /**
+     * Las dos implementaciones completan los DTO recibidos (IDs, reportero), por eso cada invocación usa una lista nueva.
+     * El contexto del JWT es por hilo y esta preparación corre en el hilo que mide.
+     */
+    @Setup(Level.Invocation)
+    public void generate() {
+        JwtContextHolder.setUserId(userId);
+        JwtContextHolder.setOrganizationId(organizationId);
+        issues = new ArrayList<>(ISSUES);
+        for (int n = 0; n < ISSUES; n++) {
+            IssueDTO issue = new IssueDTO();
+            issue.setTitle("Implementar exportación en MOD-" + n);
+            issue.setProjectId(projectId);
+            issue.setStatus((long) (n % 4 + 1));
+            issue.setPriority((long) (n % 3 + 1));
+            issue.setType((long) (n % 2 + 1));
+            issue.setEstimatedTime(n % 8);
+            DescriptionDTO description = new DescriptionDTO();
+            description.setTitle("Detalle");
+            description.setText("Al abrir la vista el servicio responde con " + n + " registros y el usuario espera ver el resultado actualizado.");
+            issue.setDescriptionsDTO(new ArrayList<>(List.of(description)));
+            issues.add(issue);
+        }
+    }
+
+    @Benchmark
+    public List<IssueDTO> createIssuesBatch() {
+        return issueService.createIssuesBatch(issues);
+    }
+
+    @Benchmark
+    public ImportResultDTO importIssues() {
+        ImportResultDTO result = issueImportService.importIssues(issues);
+        if (result.getFailed() > 0) {
+            throw new IllegalStateException(result.getFailed() + " issues no se importaron");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,105 @@
+package com.cartagenacorp.lm_issues.benchmark;
+
+import com.cartagenacorp.lm_issues.util.JwtTokenUtil;
+import com.cartagenacorp.lm_issues.util.VerifiedClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de autenticación por petición en PermissionAspect.
+ * <ul>
+ *     <li>fourParses: comportamiento anterior, validateToken + getPermissionsFromToken + getUserId +
+ *     getOrganizationId, cada uno con su propio parseo y verificación HMAC.</li>
+ *     <li>verifyCold: JwtTokenUtil.verify con un token nuevo en cada llamada (un solo parseo).</li>
+ *     <li>verifyCached: JwtTokenUtil.verify con un token ya verificado (digest + lectura de caché).</li>
+ * </ul>
+ * mvn -P benchmark test-compile exec:exec -Dbenchmark=JwtVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String[] REQUIRED = {"ISSUE_UPDATE", "ISSUE_CRUD"};
+
+    private String secret;
+    private String token;
+    private String[] coldTokens;
+    private int coldIndex;
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Setup
+    public void setup() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        secret = Base64.getEncoder().encodeToString(key);
+
+        jwtTokenUtil = new JwtTokenUtil(new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", secret);
+
+        token = createToken(UUID.randomUUID());
+        // Suficientes tokens distintos para que verifyCold no encuentre entradas en la caché
+        coldTokens = new String[200_000];
+        for (int i = 0; i < coldTokens.length; i++) {
+            coldTokens[i] = createToken(UUID.randomUUID());
+        }
+        jwtTokenUtil.verify(token);
+    }
+
+    @Benchmark
+    public void fourParses(Blackhole blackhole) {
+        blackhole.consume(parse(token) != null);
+        blackhole.consume(parse(token).get("permissions"));
+        blackhole.consume(UUID.fromString(parse(token).getSubject()));
+        blackhole.consume(UUID.fromString(parse(token).get("organization_id", String.class)));
+    }
+
+    @Benchmark
+    public boolean verifyCold() {
+        String next = coldTokens[coldIndex++ % coldTokens.length];
+        return jwtTokenUtil.verify(next).hasAnyPermission(REQUIRED);
+    }
+
+    @Benchmark
+    public boolean verifyCached() {
+        VerifiedClaims claims = jwtTokenUtil.verify(token);
+        return claims.hasAnyPermission(REQUIRED);
+    }
+
+    private Claims parse(String value) {
+        return Jwts.parser()
+                .setSigningKey(secret)
+                .parseClaimsJws(value)
+                .getBody();
+    }
+
+    private String createToken(UUID userId) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setSubject(userId.toString())
+                .claim("organization_id", UUID.randomUUID().toString())
+                .claim("role", "USER")
+                .claim("permissions", List.of("ISSUE_READ", "ISSUE_CRUD", "ISSUE_UPDATE", "PROJECT_READ", "SPRINT_READ"))
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(Duration.ofHours(2))))
+                .signWith(SignatureAlgorithm.HS256, secret)
+                .compact();
+    }
+}
@@ -0,0 +1,125 @@
+package com.cartagenacorp.lm_issues.benchmark;
+
+import com.cartagenacorp.lm_issues.LmIssuesApplication;
+import com.cartagenacorp.lm_issues.dto.SearchMode;
+import com.cartagenacorp.lm_issues.repository.IssueSearchFilter;
+import com.cartagenacorp.lm_issues.repository.IssueSearchHit;
+import com.cartagenacorp.lm_issues.repository.IssueSearchRepository;
+import com.cartagenacorp.lm_issues.support.TestApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia de la búsqueda por palabra clave de /api/issues/search (página de 20 con su conteo) en los
+ * modos TRIGRAM y FUZZY sobre un conjunto sintético de issues (una descripción por issue), con y sin
+ * los índices pg_trgm de V2. Una de cada 10 000 issues contiene la palabra buscada, de modo que la
+ * consulta es selectiva y la diferencia entre el índice y el recorrido completo queda a la vista.
+ * <p>
+ * Cada combinación de parámetros levanta su propio Postgres embebido y carga los datos antes de medir;
+ * con un millón de issues la carga toma varios minutos.
+ * <p>
+ * mvn -P benchmark test-compile exec:exec -Dbenchmark=KeywordSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class KeywordSearchBenchmark {
+
+    private static final Map<SearchMode, String> KEYWORDS = Map.of(
+            SearchMode.TRIGRAM, "cronizaci",
+            SearchMode.FUZZY, "sincronisacion"
+    );
+
+    @Param({"1000000"})
+    public int issues;
+
+    @Param({"TRIGRAM", "FUZZY"})
+    public SearchMode mode;
+
+    @Param({"true", "false"})
+    public boolean trigramIndexes;
+
+    private ConfigurableApplicationContext context;
+    private IssueSearchRepository issueSearchRepository;
+    private TransactionTemplate transactionTemplate;
+    private IssueSearchFilter filter;
+    private PageRequest pageable;
+    private String keyword;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Map<String, Object> properties = TestApplication.properties(null);
+        properties.put("spring.main.web-application-type", "none");
+        properties.put("logging.level.root", "WARN");
+        context = new SpringApplicationBuilder(LmIssuesApplication.class).run(TestApplication.arguments(properties));
+
+        UUID projectId = UUID.randomUUID();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.executeWithoutResult(status -> seed(jdbcTemplate, projectId, issues));
+        if (!trigramIndexes) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_issue_title_trgm, idx_description_text_trgm");
+        }
+        jdbcTemplate.execute("VACUUM ANALYZE issue");
+        jdbcTemplate.execute("VACUUM ANALYZE description");
+
+        issueSearchRepository = context.getBean(IssueSearchRepository.class);
+        transactionTemplate.setReadOnly(true);
+        filter = new IssueSearchFilter(projectId, null, null, null, null, null, null);
+        pageable = PageRequest.of(0, 20, Sort.by("createdAt"));
+        keyword = KEYWORDS.get(mode);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<IssueSearchHit> search() {
+        // FUZZY fija su umbral con SET LOCAL, por eso la búsqueda va en una transacción como en IssueService
+        return transactionTemplate.execute(status -> issueSearchRepository.search(mode, keyword, filter, pageable, false));
+    }
+
+    /**
+     * Carga las issues y sus descripciones con generate_series. Los triggers de search_vector se
+     * desactivan durante la carga (SET LOCAL, dentro de la transacción) porque estos modos no usan esa columna.
+     */
+    private static void seed(JdbcTemplate jdbcTemplate, UUID projectId, int issues) {
+        jdbcTemplate.execute("SET LOCAL session_replication_role = replica");
+        jdbcTemplate.update("""
+                INSERT INTO issue (id, title, project_id, organization_id, reporter_id, assigned_id, status, priority, type, created_at, updated_at)
+                SELECT gen_random_uuid(),
+                       (ARRAY['Corregir', 'Revisar', 'Implementar', 'Documentar'])[n % 4 + 1] || ' '
+                           || CASE WHEN n % 10000 = 0 THEN 'sincronización de tableros'
+                                   ELSE (ARRAY['pagos', 'reportes', 'exportación', 'notificaciones', 'permisos'])[n % 5 + 1] END
+                           || ' en MOD-' || n,
+                       ?, gen_random_uuid(), gen_random_uuid(), gen_random_uuid(),
+                       n % 4 + 1, n % 3 + 1, n % 2 + 1,
+                       now() - n * interval '1 second', now() - n * interval '1 second'
+                FROM generate_series(1, ?) AS n
+                """, projectId, issues);
+        jdbcTemplate.update("""
+                INSERT INTO description (id, title, text, issue_id)
+                SELECT gen_random_uuid(), 'Detalle',
+                       'Al abrir la vista el servicio responde con ' || (n % 500) || ' registros y el usuario '
+                           || 'espera ver el resultado actualizado después de guardar los cambios.',
+                       i.id
+                FROM (SELECT id, row_number() OVER () AS n FROM issue WHERE project_id = ?) i
+                """, projectId);
+    }
+}
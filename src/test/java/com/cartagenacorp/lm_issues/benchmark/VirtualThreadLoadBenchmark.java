@@ -0,0 +1,130 @@
+package com.cartagenacorp.lm_issues.benchmark;
+
+import com.cartagenacorp.lm_issues.LmIssuesApplication;
+import com.cartagenacorp.lm_issues.support.StubServices;
+import com.cartagenacorp.lm_issues.support.TestApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput de /api/issues/search con hilos de plataforma frente a hilos virtuales
+ * (spring.threads.virtual.enabled), con las dependencias remotas simuladas por {@link StubServices}
+ * con latencia fija y las cachés de usuarios y participación desactivadas, para que cada petición
+ * espere sus llamadas remotas. Cada invocación lanza CONCURRENCY peticiones simultáneas.
+ * <p>
+ * limits=default usa el pool de conexiones y los bulkheads del perfil local; como la búsqueda hace
+ * sus llamadas remotas dentro de la transacción, ese pool acota el throughput en ambos modos.
+ * limits=wide los amplía para que el límite sea el modelo de hilos.
+ * <p>
+ * mvn -P benchmark test-compile exec:exec -Dbenchmark=VirtualThreadLoadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int CONCURRENCY = 400;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"50"})
+    public int remoteLatencyMs;
+
+    @Param({"default", "wide"})
+    public String limits;
+
+    private StubServices stubServices;
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        stubServices = new StubServices(Duration.ofMillis(remoteLatencyMs));
+
+        Map<String, Object> properties = TestApplication.properties(stubServices.baseUrl());
+        properties.put("server.port", 0);
+        properties.put("spring.threads.virtual.enabled", virtualThreads);
+        properties.put("auth.users-cache.ttl", "PT0S");
+        properties.put("auth.users-cache.max-stale", "PT0S");
+        properties.put("auth.users-cache.refresh-ahead", false);
+        properties.put("project.participation-cache.ttl", "PT0S");
+        properties.put("project.participation-cache.negative-ttl", "PT0S");
+        properties.put("search.result-cache.enabled", false);
+        properties.put("logging.level.root", "WARN");
+        if ("wide".equals(limits)) {
+            properties.put("spring.datasource.hikari.maximum-pool-size", 80);
+            properties.put("outbound.http.defaults.max-connections", 1000);
+            properties.put("outbound.http.defaults.max-concurrent", 1000);
+            properties.put("outbound.executor.virtual-concurrency-limit", 1000);
+        }
+        context = new SpringApplicationBuilder(LmIssuesApplication.class).run(TestApplication.arguments(properties));
+
+        UUID organizationId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        seed(context.getBean(JdbcTemplate.class), organizationId, projectId);
+
+        String token = TestApplication.token(UUID.randomUUID(), organizationId, "ISSUE_READ");
+        String port = context.getEnvironment().getProperty("local.server.port");
+        request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/issues/search?projectId=" + projectId + "&size=20"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stubServices.close();
+        clientExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENCY)
+    public void search() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            int status = response.join().statusCode();
+            if (status != 200) {
+                throw new IllegalStateException("Respuesta inesperada: " + status);
+            }
+        }
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, UUID organizationId, UUID projectId) {
+        jdbcTemplate.update("""
+                INSERT INTO issue (id, title, project_id, organization_id, reporter_id, assigned_id, status, priority, type, created_at, updated_at)
+                SELECT gen_random_uuid(), 'Issue de carga ' || n, ?, ?, gen_random_uuid(), gen_random_uuid(), 1, 1, 1, now(), now()
+                FROM generate_series(1, 20) AS n
+                """, projectId, organizationId);
+    }
+}
@@ -0,0 +1,141 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import com.cartagenacorp.lm_issues.support.TestApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Las actualizaciones masivas (campos y sprint) devuelven la fila completa antes y después del cambio para la auditoría.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("local")
+class IssueBulkUpdateRepositoryTests {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 5, 9, 30);
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 2, 10, 14, 0);
+    private static final LocalDateTime STATUS_UPDATED = LocalDateTime.of(2026, 2, 1, 8, 15);
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+
+    @Autowired
+    private IssueBulkUpdateRepository issueBulkUpdateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID issueId;
+    private UUID projectId;
+    private UUID sprintId;
+    private UUID parentId;
+    private UUID reporterId;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        Map<String, Object> properties = TestApplication.properties(null);
+        properties.remove("spring.profiles.active");
+        properties.forEach((key, value) -> registry.add(key, () -> value));
+        registry.add("logging.level.root", () -> "WARN");
+    }
+
+    @BeforeEach
+    void seed() {
+        projectId = UUID.randomUUID();
+        sprintId = UUID.randomUUID();
+        reporterId = UUID.randomUUID();
+        parentId = insertIssue(UUID.randomUUID(), null);
+        issueId = insertIssue(UUID.randomUUID(), parentId);
+    }
+
+    @Test
+    void statusChangeKeepsPreviousRowForAudit() {
+        IssueFieldChange change = single(new TransactionTemplate(transactionManager).execute(status ->
+                issueBulkUpdateRepository.updateFields(List.of(issueId), List.of(projectId), 2L, null, null)));
+
+        IssueSnapshot before = change.before();
+        IssueSnapshot after = change.after();
+        assertEquals(1L, before.status());
+        assertEquals(STATUS_UPDATED, before.lastStatusUpdate());
+        assertEquals(UPDATED, before.updatedAt());
+        assertEquals(2L, after.status());
+        assertTrue(after.lastStatusUpdate().isAfter(STATUS_UPDATED));
+        assertEquals(after.updatedAt(), after.lastStatusUpdate());
+        for (IssueSnapshot snapshot : List.of(before, after)) {
+            assertUnchangedColumns(snapshot);
+        }
+    }
+
+    @Test
+    void priorityChangeDoesNotTouchLastStatusUpdate() {
+        IssueFieldChange change = single(new TransactionTemplate(transactionManager).execute(status ->
+                issueBulkUpdateRepository.updateFields(List.of(issueId), List.of(projectId), null, 3L, null)));
+
+        assertEquals(1L, change.before().priority());
+        assertEquals(3L, change.after().priority());
+        assertEquals(STATUS_UPDATED, change.before().lastStatusUpdate());
+        assertEquals(STATUS_UPDATED, change.after().lastStatusUpdate());
+        assertEquals(change.before().status(), change.after().status());
+    }
+
+    @Test
+    void sprintChangeKeepsPreviousSprint() {
+        UUID nextSprint = UUID.randomUUID();
+        IssueSprintChange change = single(new TransactionTemplate(transactionManager).execute(status ->
+                issueBulkUpdateRepository.updateSprint(List.of(issueId), List.of(projectId), nextSprint)));
+
+        assertEquals(sprintId, change.before().sprintId());
+        assertEquals(UPDATED, change.before().updatedAt());
+        assertEquals(nextSprint, change.after().sprintId());
+        assertTrue(change.after().updatedAt().isAfter(UPDATED));
+        for (IssueSnapshot snapshot : List.of(change.before(), change.after())) {
+            assertEquals(1L, snapshot.status());
+            assertEquals(STATUS_UPDATED, snapshot.lastStatusUpdate());
+        }
+    }
+
+    private void assertUnchangedColumns(IssueSnapshot snapshot) {
+        assertEquals(issueId, snapshot.id());
+        assertEquals(projectId, snapshot.projectId());
+        assertEquals(sprintId, snapshot.sprintId());
+        assertEquals(parentId, snapshot.parentId());
+        assertEquals(reporterId, snapshot.reporterId());
+        assertEquals(CREATED, snapshot.createdAt());
+        assertEquals(START, snapshot.startDate());
+        assertEquals(5, snapshot.estimatedTime());
+    }
+
+    private UUID insertIssue(UUID id, UUID parent) {
+        jdbcTemplate.update("""
+                INSERT INTO issue (id, title, estimated_time, project_id, sprint_id, parent_id, status, priority, type,
+                                   created_at, updated_at, last_status_update, reporter_id, start_date)
+                VALUES (?, 'Auditoría masiva', 5, ?, ?, ?, 1, 1, 1, ?, ?, ?, ?, ?)
+                """, id, projectId, sprintId, parent, Timestamp.valueOf(CREATED), Timestamp.valueOf(UPDATED),
+                Timestamp.valueOf(STATUS_UPDATED), reporterId, Date.valueOf(START));
+        return id;
+    }
+
+    private static <T> T single(List<T> rows) {
+        assertEquals(1, rows.size());
+        return rows.get(0);
+    }
+}
@@ -0,0 +1,274 @@
+package com.cartagenacorp.lm_issues.repository;
+
+import com.cartagenacorp.lm_issues.dto.SearchMode;
+import com.cartagenacorp.lm_issues.entity.Issue;
+import com.cartagenacorp.lm_issues.repository.specifications.IssueSpecifications;
+import com.cartagenacorp.lm_issues.support.RecordingDataSource;
+import com.cartagenacorp.lm_issues.support.RecordingDataSource.RecordedStatement;
+import com.cartagenacorp.lm_issues.support.TestApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Regresión de planes de ejecución de las consultas sobre issue: carga un conjunto sintético
+ * (50 proyectos, 1000 issues por proyecto, con sprints, subtareas, descripciones, adjuntos y relaciones),
+ * ejecuta cada consulta de los repositorios y de IssueSpecifications tal como la usan los servicios,
+ * vuelve a ejecutar con EXPLAIN cada sentencia que llegó a la base con sus mismos parámetros y falla si
+ * algún plan recorre una tabla completa (Seq Scan).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("local")
+class IssueQueryPlanTests {
+
+    private static final int PROJECTS = 50;
+    private static final int ISSUES = 50_000;
+    private static final Pageable PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private IssueRelationRepository issueRelationRepository;
+
+    @Autowired
+    private IssueListReadRepository issueListReadRepository;
+
+    @Autowired
+    private IssueSearchRepository issueSearchRepository;
+
+    @Autowired
+    private IssueBulkUpdateRepository issueBulkUpdateRepository;
+
+    @Autowired
+    private IssueExportRepository issueExportRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        Map<String, Object> properties = TestApplication.properties(null);
+        properties.remove("spring.profiles.active");
+        properties.forEach((key, value) -> registry.add(key, () -> value));
+        registry.add("logging.level.root", () -> "WARN");
+    }
+
+    @TestConfiguration
+    static class RecordingConfiguration {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource source && !(bean instanceof RecordingDataSource)
+                            ? new RecordingDataSource(source)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT count(*) FROM issue WHERE title LIKE 'Plan %'", Integer.class);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        UUID organizationId = UUID.randomUUID();
+        // Los IDs se derivan de n con md5 para poder referirlos (padre, proyecto, sprint) en la misma carga
+        jdbcTemplate.update("""
+                INSERT INTO issue (id, title, project_id, organization_id, reporter_id, assigned_id, sprint_id, parent_id,
+                                   status, priority, type, created_at, updated_at)
+                SELECT md5('i' || n)::uuid, 'Plan ' || n || ' ' || (ARRAY['pagos', 'reportes', 'permisos'])[n % 3 + 1],
+                       md5('p' || (n % ?))::uuid, ?, md5('u' || (n % 97))::uuid,
+                       CASE WHEN n % 20 = 0 THEN NULL ELSE md5('u' || (n % 40))::uuid END,
+                       CASE WHEN n % 5 = 0 THEN NULL ELSE md5('s' || (n % ?) || '-' || (n % 10))::uuid END,
+                       CASE WHEN n % 10 < 3 AND n > ? THEN md5('i' || (n - ?))::uuid END,
+                       n % 5 + 1, n % 3 + 1, (n / 3) % 3 + 1,
+                       now() - n * interval '1 minute', now() - n * interval '1 minute'
+                FROM generate_series(1, ?) AS n
+                """, PROJECTS, organizationId, PROJECTS, PROJECTS, PROJECTS, ISSUES);
+        jdbcTemplate.update("""
+                INSERT INTO description (id, title, text, issue_id)
+                SELECT md5('d' || n)::uuid, 'Detalle', 'Texto de la descripción ' || n, md5('i' || n)::uuid
+                FROM generate_series(1, ?) AS n WHERE n % 2 = 0
+                """, ISSUES);
+        jdbcTemplate.update("""
+                INSERT INTO description_file (id, file_name, file_url, description_id)
+                SELECT gen_random_uuid(), 'archivo.txt', 'http://localhost/archivo.txt', md5('d' || n)::uuid
+                FROM generate_series(1, ?) AS n WHERE n % 10 = 0
+                """, ISSUES);
+        jdbcTemplate.update("""
+                INSERT INTO issue_relation (source_issue_id, target_issue_id)
+                SELECT md5('i' || n)::uuid, md5('i' || (n + ?))::uuid
+                FROM generate_series(1, ?) AS n WHERE n % 7 = 0
+                """, PROJECTS, ISSUES - PROJECTS);
+        jdbcTemplate.execute("ANALYZE issue");
+        jdbcTemplate.execute("ANALYZE description");
+        jdbcTemplate.execute("ANALYZE description_file");
+        jdbcTemplate.execute("ANALYZE issue_relation");
+    }
+
+    @Test
+    void issueQueriesDoNotScanWholeTables() {
+        UUID projectId = uuid("p7");
+        UUID sprintId = uuid("s7-3");
+        UUID parentId = uuid("i107");
+        UUID issueId = uuid("i357");
+        List<UUID> pageIds = jdbcTemplate.queryForList(
+                "SELECT id FROM issue WHERE project_id = ? ORDER BY created_at DESC LIMIT 20", UUID.class, projectId);
+        IssueSearchFilter filter = new IssueSearchFilter(projectId, null, null, null, null, null, null);
+        IssueSearchFilter sprintFilter = new IssueSearchFilter(projectId, sprintId, 2L, null, null, null, null);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Map<String, Runnable> cases = new LinkedHashMap<>();
+        cases.put("findByParentId", () -> issueRepository.findByParentId(parentId));
+        cases.put("findAllById", () -> issueRepository.findAllById(pageIds));
+        cases.put("findBySource_Id", () -> issueRelationRepository.findBySource_Id(issueId));
+        cases.put("findByTarget_Id", () -> issueRelationRepository.findByTarget_Id(issueId));
+
+        cases.put("spec proyecto", () -> idSliceAndCount(spec(projectId, null, null, null, null, null, null, null)));
+        cases.put("spec sprint", () -> idSliceAndCount(spec(projectId, sprintId, null, null, null, null, null, null)));
+        cases.put("spec backlog", () -> idSliceAndCount(spec(projectId, IssueSpecifications.NULL_FILTER_UUID, null, null, null, null, null, null)));
+        cases.put("spec estado", () -> idSliceAndCount(spec(projectId, null, 3L, null, null, null, null, null)));
+        cases.put("spec prioridad y tipo", () -> idSliceAndCount(spec(projectId, null, null, 2L, 1L, null, null, null)));
+        cases.put("spec asignados", () -> idSliceAndCount(spec(projectId, null, null, null, null,
+                List.of(uuid("u7"), uuid("u17")), null, null)));
+        cases.put("spec padres", () -> idSliceAndCount(spec(projectId, null, null, null, null, null, true, null)));
+        cases.put("spec subtareas", () -> idSliceAndCount(spec(projectId, null, null, null, null, null, false, null)));
+        cases.put("spec palabra clave", () -> idSliceAndCount(spec(projectId, null, null, null, null, null, null, "reportes")));
+
+        cases.put("findRows", () -> issueListReadRepository.findRows(pageIds));
+        cases.put("findDescriptions", () -> issueListReadRepository.findDescriptions(pageIds));
+
+        cases.put("search TRIGRAM", () -> issueSearchRepository.search(SearchMode.TRIGRAM, "reportes", filter, PAGE, false));
+        cases.put("search FULLTEXT", () -> issueSearchRepository.search(SearchMode.FULLTEXT, "reportes", filter, PAGE, true));
+        cases.put("search FUZZY", () -> transactionTemplate.executeWithoutResult(status ->
+                issueSearchRepository.search(SearchMode.FUZZY, "reportez", filter, PAGE, false)));
+        cases.put("searchSlice sprint", () -> issueSearchRepository.searchSlice(SearchMode.TRIGRAM, "pagos", sprintFilter, PAGE, false));
+        cases.put("facets", () -> issueSearchRepository.facets(SearchMode.LIKE, null, sprintFilter));
+        cases.put("facets palabra clave", () -> issueSearchRepository.facets(SearchMode.LIKE, "permisos", filter));
+        cases.put("board", () -> issueSearchRepository.board(new IssueSearchFilter(projectId, sprintId, null, null, null, null, null), 100));
+        cases.put("seek", () -> issueSearchRepository.seek("pagos", filter, "createdAt", false, null, null, 20));
+
+        cases.put("findProjectIds", () -> issueBulkUpdateRepository.findProjectIds(pageIds));
+        cases.put("updateFields", () -> transactionTemplate.executeWithoutResult(status ->
+                issueBulkUpdateRepository.updateFields(pageIds, List.of(projectId), 4L, null, null)));
+        cases.put("updateSprint", () -> transactionTemplate.executeWithoutResult(status ->
+                issueBulkUpdateRepository.updateSprint(pageIds, List.of(projectId), sprintId)));
+        cases.put("streamProject", () -> transactionTemplate.executeWithoutResult(status ->
+                issueExportRepository.streamProject(projectId, rs -> {
+                })));
+
+        List<String> failures = new ArrayList<>();
+        cases.forEach((name, action) -> {
+            List<RecordedStatement> statements = RecordingDataSource.record(action);
+            assertTrue(statements.stream().anyMatch(statement -> isQuery(statement.sql())), "Sin sentencias para " + name);
+            for (RecordedStatement statement : statements) {
+                if (isQuery(statement.sql())) {
+                    for (String scan : sequentialScans(statement)) {
+                        failures.add(name + ": " + scan + "\n    " + statement.sql());
+                    }
+                }
+            }
+        });
+
+        if (!failures.isEmpty()) {
+            fail("Planes con recorridos completos de tabla:\n" + String.join("\n", failures));
+        }
+    }
+
+    private void idSliceAndCount(Specification<Issue> spec) {
+        issueRepository.findIdSlice(spec, PAGE);
+        issueRepository.count(spec);
+    }
+
+    /**
+     * Misma composición de filtros que IssueService.findIssues para el modo LIKE.
+     */
+    private static Specification<Issue> spec(UUID projectId, UUID sprintId, Long status, Long priority, Long type,
+                                             List<UUID> assignedIds, Boolean isParent, String keyword) {
+        return Specification.where(IssueSpecifications.searchByKeyword(keyword))
+                .and(IssueSpecifications.hasProject(projectId))
+                .and(IssueSpecifications.hasSprint(sprintId))
+                .and(IssueSpecifications.hasStatus(status))
+                .and(IssueSpecifications.hasPriority(priority))
+                .and(IssueSpecifications.hasType(type))
+                .and(IssueSpecifications.hasAssignedIn(assignedIds))
+                .and(IssueSpecifications.hasParentCondition(isParent));
+    }
+
+    private List<String> sequentialScans(RecordedStatement statement) {
+        DataSource target = ((DelegatingDataSource) dataSource).getTargetDataSource();
+        try (Connection connection = target.getConnection();
+             PreparedStatement explain = statement.prepare(connection, "EXPLAIN (FORMAT JSON) ");
+             ResultSet rs = explain.executeQuery()) {
+            rs.next();
+            List<String> scans = new ArrayList<>();
+            collectSequentialScans(mapper.readTree(rs.getString(1)).get(0).get("Plan"), scans);
+            return scans;
+        } catch (SQLException | java.io.IOException e) {
+            throw new IllegalStateException("No se pudo obtener el plan de: " + statement.sql(), e);
+        }
+    }
+
+    private static void collectSequentialScans(JsonNode plan, List<String> scans) {
+        if ("Seq Scan".equals(plan.path("Node Type").asText())) {
+            scans.add("Seq Scan on " + plan.path("Relation Name").asText());
+        }
+        for (JsonNode child : plan.path("Plans")) {
+            collectSequentialScans(child, scans);
+        }
+    }
+
+    private static boolean isQuery(String sql) {
+        String start = sql.stripLeading().toLowerCase();
+        return start.startsWith("select") || start.startsWith("with") || start.startsWith("update")
+                || start.startsWith("delete") || start.startsWith("insert");
+    }
+
+    private UUID uuid(String seed) {
+        return jdbcTemplate.queryForObject("SELECT md5(?)::uuid", UUID.class, seed);
+    }
+}
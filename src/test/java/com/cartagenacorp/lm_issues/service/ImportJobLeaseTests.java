@@ -0,0 +1,154 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.cartagenacorp.lm_issues.dto.ImportJobDTO;
+import com.cartagenacorp.lm_issues.dto.IssueDTO;
+import com.cartagenacorp.lm_issues.entity.ImportJobStatus;
+import com.cartagenacorp.lm_issues.repository.IssueImportRepository;
+import com.cartagenacorp.lm_issues.support.TestApplication;
+import com.cartagenacorp.lm_issues.util.JwtContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Un trabajo de importación que dura más que su lease debe terminar sin perderlo aunque el planificador
+ * de @Scheduled esté ocupado: aquí AuditOutboxDispatcher envía una acumulación de auditorías contra un
+ * lm-audit que tarda un segundo por envío mientras el trabajo importa bloques de una issue.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("local")
+class ImportJobLeaseTests {
+
+    private static final int ISSUES = 30;
+    private static final int AUDIT_ENTRIES = 20;
+
+    private final CountDownLatch auditDispatchStarted = new CountDownLatch(1);
+    private final AtomicInteger auditSends = new AtomicInteger();
+    private volatile boolean slowAudit = true;
+
+    @MockitoBean
+    private AuditExternalService auditExternalService;
+
+    @MockitoSpyBean
+    private IssueImportRepository issueImportRepository;
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        Map<String, Object> properties = TestApplication.properties(null);
+        properties.remove("spring.profiles.active");
+        properties.forEach((key, value) -> registry.add(key, () -> value));
+        registry.add("import.chunk-size", () -> 1);
+        registry.add("import.jobs.lease", () -> "PT3S");
+        registry.add("import.jobs.heartbeat-interval", () -> "PT1S");
+        registry.add("audit.outbox.batch-size", () -> 5);
+        registry.add("audit.outbox.poll-interval", () -> "PT0.1S");
+        registry.add("logging.level.root", () -> "WARN");
+    }
+
+    @BeforeEach
+    void slowDependencies() {
+        doAnswer(invocation -> {
+            auditDispatchStarted.countDown();
+            auditSends.incrementAndGet();
+            if (slowAudit) {
+                Thread.sleep(1000);
+            }
+            return null;
+        }).when(auditExternalService).sendAuditLog(any(), any());
+        doAnswer(invocation -> {
+            Thread.sleep(200);
+            return invocation.callRealMethod();
+        }).when(issueImportRepository).insertAll(anyList(), anyInt());
+    }
+
+    @AfterEach
+    void releaseScheduler() {
+        slowAudit = false;
+        JwtContextHolder.clear();
+    }
+
+    @Test
+    void leaseSurvivesSlowAuditDispatchOnSharedScheduler() throws InterruptedException {
+        Timestamp due = Timestamp.valueOf(LocalDateTime.now().minusMinutes(1));
+        for (int i = 0; i < AUDIT_ENTRIES; i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO audit_outbox (id, payload, organization_id, status, attempts, next_attempt_at, created_at)
+                    VALUES (?, '{}', ?, 'PENDING', 0, ?, ?)
+                    """, UUID.randomUUID(), UUID.randomUUID(), due, due);
+        }
+        assertTrue(auditDispatchStarted.await(10, TimeUnit.SECONDS), "El dispatcher de auditoría no empezó");
+
+        JwtContextHolder.setUserId(UUID.randomUUID());
+        JwtContextHolder.setOrganizationId(UUID.randomUUID());
+        ImportJobDTO submitted = importJobService.submit(issues());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (true) {
+            Map<String, Object> row = jdbcTemplate.queryForMap("SELECT status, lease_until FROM import_job WHERE id = ?", submitted.getId());
+            ImportJobStatus status = ImportJobStatus.valueOf((String) row.get("status"));
+            if (status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED) {
+                break;
+            }
+            Timestamp leaseUntil = (Timestamp) row.get("lease_until");
+            if (status == ImportJobStatus.RUNNING && leaseUntil != null && leaseUntil.toLocalDateTime().isBefore(LocalDateTime.now())) {
+                fail("El lease del trabajo venció mientras seguía en curso");
+            }
+            if (System.nanoTime() > deadline) {
+                fail("El trabajo no terminó a tiempo");
+            }
+            Thread.sleep(100);
+        }
+
+        assertTrue(auditSends.get() < AUDIT_ENTRIES, "El planificador debía seguir ocupado con auditorías al terminar el trabajo");
+        ImportJobDTO job = importJobService.getJob(submitted.getId(), false);
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(ISSUES, job.getInserted());
+        assertEquals(0, job.getFailed());
+        assertTrue(job.getErrors().isEmpty());
+    }
+
+    private static List<IssueDTO> issues() {
+        UUID projectId = UUID.randomUUID();
+        List<IssueDTO> issues = new ArrayList<>(ISSUES);
+        for (int n = 0; n < ISSUES; n++) {
+            IssueDTO issue = new IssueDTO();
+            issue.setTitle("Issue " + n);
+            issue.setProjectId(projectId);
+            issue.setStatus(1L);
+            issues.add(issue);
+        }
+        return issues;
+    }
+}
@@ -0,0 +1,143 @@
+package com.cartagenacorp.lm_issues.service;
+
+import com.cartagenacorp.lm_issues.support.StubServices;
+import com.cartagenacorp.lm_issues.support.TestApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * La lista de /api/issues/search debe ejecutar la misma cantidad de sentencias SQL sin importar el
+ * tamaño de la página: IDs, conteo, columnas de las issues y descripciones con adjuntos.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("local")
+class IssueListQueryCountTests {
+
+    private static final int ISSUES = 150;
+
+    private static final StubServices stubServices = startStubs();
+
+    private static final UUID organizationId = UUID.randomUUID();
+    private static final UUID projectId = UUID.randomUUID();
+
+    // Los trabajos programados también usan Hibernate y alterarían las estadísticas globales
+    @MockitoBean
+    private AuditOutboxDispatcher auditOutboxDispatcher;
+
+    @MockitoBean
+    private ImportJobRunner importJobRunner;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        Map<String, Object> properties = TestApplication.properties(stubServices.baseUrl());
+        properties.remove("spring.profiles.active");
+        properties.forEach((key, value) -> registry.add(key, () -> value));
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> true);
+        registry.add("search.result-cache.enabled", () -> false);
+        registry.add("logging.level.root", () -> "WARN");
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        stubServices.close();
+    }
+
+    @BeforeEach
+    void seed() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT count(*) FROM issue WHERE project_id = ?", Integer.class, projectId);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        jdbcTemplate.update("""
+                INSERT INTO issue (id, title, project_id, organization_id, reporter_id, assigned_id, status, priority, type, created_at, updated_at)
+                SELECT gen_random_uuid(), 'Issue ' || n, ?, ?, gen_random_uuid(), gen_random_uuid(), 1, 1, 1,
+                       now() - n * interval '1 minute', now()
+                FROM generate_series(1, ?) AS n
+                """, projectId, organizationId, ISSUES);
+        // Cada issue tiene un padre (la primera de la lista), dos descripciones y un adjunto por descripción
+        jdbcTemplate.update("""
+                UPDATE issue SET parent_id = (SELECT id FROM issue WHERE project_id = ? ORDER BY created_at LIMIT 1)
+                WHERE project_id = ? AND id <> (SELECT id FROM issue WHERE project_id = ? ORDER BY created_at LIMIT 1)
+                """, projectId, projectId, projectId);
+        jdbcTemplate.update("""
+                INSERT INTO description (id, title, text, issue_id)
+                SELECT gen_random_uuid(), 'Detalle ' || d, 'Texto de la descripción ' || d, i.id
+                FROM issue i, generate_series(1, 2) AS d
+                WHERE i.project_id = ?
+                """, projectId);
+        jdbcTemplate.update("""
+                INSERT INTO description_file (id, file_name, file_url, description_id)
+                SELECT gen_random_uuid(), 'archivo.txt', 'http://localhost/archivo.txt', d.id
+                FROM description d JOIN issue i ON i.id = d.issue_id
+                WHERE i.project_id = ?
+                """, projectId);
+    }
+
+    @Test
+    void searchExecutesSameStatementCountForAnyPageSize() {
+        long statementsForOne = statementsFor(1);
+        long statementsForTwenty = statementsFor(20);
+        long statementsForHundred = statementsFor(100);
+
+        assertEquals(statementsForOne, statementsForTwenty, "Sentencias con página de 1 y de 20");
+        assertEquals(statementsForOne, statementsForHundred, "Sentencias con página de 1 y de 100");
+    }
+
+    private long statementsFor(int size) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(TestApplication.token(UUID.randomUUID(), organizationId, "ISSUE_READ"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ResponseEntity<Map> response = restTemplate.exchange("/api/issues/search?projectId={projectId}&size={size}",
+                HttpMethod.GET, new HttpEntity<>(headers), Map.class, projectId, size);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(200, response.getStatusCode().value());
+        List<?> content = (List<?>) response.getBody().get("content");
+        assertEquals(size, content.size());
+        return statements;
+    }
+
+    private static StubServices startStubs() {
+        try {
+            return new StubServices(Duration.ZERO);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.cartagenacorp.lm_issues.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Postgres embebido compartido por las pruebas y benchmarks que necesitan la base de datos real
+ * (pg_trgm, índices GIN, planes de ejecución). Se inicia una sola vez por JVM.
+ */
+public final class EmbeddedPostgresSupport {
+
+    private static EmbeddedPostgres postgres;
+
+    private EmbeddedPostgresSupport() {
+    }
+
+    public static synchronized EmbeddedPostgres get() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.builder().start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo iniciar Postgres embebido", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException ignored) {
+                    // el proceso termina de todos modos
+                }
+            }));
+        }
+        return postgres;
+    }
+
+    public static String jdbcUrl() {
+        return get().getJdbcUrl("postgres", "postgres");
+    }
+
+    public static DataSource dataSource() {
+        return get().getPostgresDatabase();
+    }
+}
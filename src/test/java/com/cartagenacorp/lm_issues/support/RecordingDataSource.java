@@ -0,0 +1,116 @@
+package com.cartagenacorp.lm_issues.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * DataSource que registra las sentencias preparadas y los valores de sus parámetros, solo en el hilo
+ * que está dentro de {@link #record(Runnable)}, para volver a ejecutarlas con EXPLAIN en las pruebas
+ * de planes. Registra tanto las consultas de Hibernate como las de JdbcTemplate.
+ */
+public class RecordingDataSource extends DelegatingDataSource {
+
+    private static final ThreadLocal<List<RecordedStatement>> recording = new ThreadLocal<>();
+
+    public RecordingDataSource(DataSource target) {
+        super(target);
+    }
+
+    public static List<RecordedStatement> record(Runnable action) {
+        List<RecordedStatement> statements = new ArrayList<>();
+        recording.set(statements);
+        try {
+            action.run();
+        } finally {
+            recording.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(RecordingDataSource.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(proxy, connection, method, args);
+                    List<RecordedStatement> statements = recording.get();
+                    if (statements != null && method.getName().equals("prepareStatement")) {
+                        RecordedStatement statement = new RecordedStatement((String) args[0], new TreeMap<>());
+                        statements.add(statement);
+                        return wrap((PreparedStatement) result, statement);
+                    }
+                    return result;
+                });
+    }
+
+    private static PreparedStatement wrap(PreparedStatement preparedStatement, RecordedStatement statement) {
+        return (PreparedStatement) Proxy.newProxyInstance(RecordingDataSource.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        statement.parameters().put(index, new Binding(method, args));
+                    } else if (method.getName().equals("clearParameters")) {
+                        statement.parameters().clear();
+                    }
+                    return invoke(proxy, preparedStatement, method, args);
+                });
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        // Identidad del proxy, no del objeto envuelto: Spring compara la conexión de la transacción
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Sentencia tal como la preparó la aplicación, con los últimos valores asignados a sus parámetros.
+     */
+    public record RecordedStatement(String sql, Map<Integer, Binding> parameters) {
+
+        /**
+         * Prepara la misma sentencia precedida por el prefijo indicado (por ejemplo "EXPLAIN ") con los mismos parámetros.
+         */
+        public PreparedStatement prepare(Connection connection, String prefix) throws SQLException {
+            PreparedStatement preparedStatement = connection.prepareStatement(prefix + sql);
+            for (Binding binding : parameters.values()) {
+                try {
+                    binding.method().invoke(preparedStatement, binding.args());
+                } catch (ReflectiveOperationException e) {
+                    preparedStatement.close();
+                    throw new SQLException("No se pudo asignar el parámetro con " + binding.method().getName(), e);
+                }
+            }
+            return preparedStatement;
+        }
+    }
+
+    public record Binding(Method method, Object[] args) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.cartagenacorp.lm_issues.support;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Servidor HTTP local que responde por lm-oauth, lm-projects, lm-sprints, lm-audit y lm-notifications
+ * con una latencia fija: valida cualquier proyecto, participante o usuario y devuelve datos mínimos
+ * de los usuarios consultados en /users/batch.
+ */
+public final class StubServices implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Duration latency;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    static {
+        // Por defecto el servidor cierra las conexiones inactivas por encima de 200 y las peticiones
+        // que llegan por ellas quedan sin respuesta cuando el pool de la aplicación es más grande
+        System.setProperty("sun.net.httpserver.maxIdleConnections", "2000");
+    }
+
+    public StubServices(Duration latency) throws IOException {
+        this.latency = latency;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] request = exchange.getRequestBody().readAllBytes();
+            Thread.sleep(latency.toMillis());
+            String path = exchange.getRequestURI().getPath();
+            Object body;
+            if (path.endsWith("/users/batch")) {
+                List<String> ids = mapper.readValue(request, new TypeReference<>() {
+                });
+                body = ids.stream().map(id -> {
+                    Map<String, Object> user = new HashMap<>();
+                    user.put("id", id);
+                    user.put("firstName", "Usuario");
+                    user.put("lastName", "Prueba");
+                    user.put("email", "usuario@prueba.com");
+                    return user;
+                }).toList();
+            } else if ("POST".equals(exchange.getRequestMethod())) {
+                body = null;
+            } else {
+                body = true;
+            }
+            byte[] response = body != null ? mapper.writeValueAsBytes(body) : new byte[0];
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length == 0 ? -1 : response.length);
+            if (response.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,68 @@
+package com.cartagenacorp.lm_issues.support;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Propiedades para levantar la aplicación con el perfil local contra Postgres embebido y, si se indica,
+ * contra {@link StubServices}, junto con tokens firmados con el mismo secreto.
+ */
+public final class TestApplication {
+
+    public static final String JWT_SECRET = Base64.getEncoder().encodeToString(
+            "lm-issues-test-secret-0123456789abcdef".getBytes());
+
+    private TestApplication() {
+    }
+
+    public static Map<String, Object> properties(String stubBaseUrl) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.profiles.active", "local");
+        properties.put("spring.datasource.url", EmbeddedPostgresSupport.jdbcUrl());
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "postgres");
+        properties.put("app.jwt.secret", JWT_SECRET);
+        properties.put("app.service-token.subject", UUID.randomUUID());
+        properties.put("app.service-token.permissions", "AUDIT_CREATE");
+        properties.put("file.upload-dir", System.getProperty("java.io.tmpdir") + "/lm-issues-uploads");
+        if (stubBaseUrl != null) {
+            properties.put("auth.service.url", stubBaseUrl + "/api/oauth");
+            properties.put("project.service.url", stubBaseUrl + "/api/projects");
+            properties.put("sprint.service.url", stubBaseUrl + "/api/sprints");
+            properties.put("audit.service.url", stubBaseUrl + "/api/audit");
+            properties.put("notification.service.url", stubBaseUrl + "/api/notifications");
+        }
+        return properties;
+    }
+
+    /**
+     * Propiedades como argumentos de línea de comandos, que tienen prioridad sobre los yml del perfil.
+     */
+    public static String[] arguments(Map<String, Object> properties) {
+        return properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+
+    public static String token(UUID userId, UUID organizationId, String... permissions) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setSubject(userId.toString())
+                .claim("organization_id", organizationId.toString())
+                .claim("role", "USER")
+                .claim("permissions", List.of(permissions))
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(Duration.ofHours(2))))
+                .signWith(SignatureAlgorithm.HS256, JWT_SECRET)
+                .compact();
+    }
+}